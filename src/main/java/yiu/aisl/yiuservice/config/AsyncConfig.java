@@ -0,0 +1,37 @@
+package yiu.aisl.yiuservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// @Async 작업 (푸시 발송, 알림 내역 적재 등) => 요청 스레드를 막지 않음
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 푸시 전용 스레드 풀 => 큐가 차면 호출한 스레드에서 실행 (작업을 버리지 않음)
+    @Bean(name = "pushExecutor")
+    public ThreadPoolTaskExecutor pushExecutor(@Value("${push.executor.pool-size:8}") int poolSize,
+                                               @Value("${push.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("push-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // Executor 빈을 직접 등록하면 스프링 부트 기본 풀이 빠지므로 다시 등록 (MVC 비동기 응답, 기본 @Async)
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
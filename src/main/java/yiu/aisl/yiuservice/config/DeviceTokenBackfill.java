@@ -0,0 +1,53 @@
+package yiu.aisl.yiuservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// user.fcm (엔티티 매핑 제거 전 컬럼) 에 남아 있는 토큰을 device_token 으로 옮김
+// ddl-auto 는 컬럼을 지우지 않음 => 컬럼이 있고 값이 남아 있는 동안만 실행
+// 옮긴 뒤 fcm 을 비워서 다음 기동 때 다시 옮기지 않음 (스위퍼가 지운 토큰이 되살아나지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenBackfill implements InitializingBean {
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            Integer columns = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.columns " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'user' AND column_name = 'fcm'", Integer.class);
+            if (columns == null || columns == 0) return;
+
+            Integer moved = new TransactionTemplate(transactionManager).execute(status -> {
+                // 같은 (유저, 토큰) 이 이미 있으면 건너뜀
+                int inserted = jdbcTemplate.update(
+                        "INSERT INTO device_token (student_id, token, last_seen_at, created_at) " +
+                                "SELECT u.student_id, u.fcm, NOW(), NOW() FROM user u " +
+                                "WHERE u.fcm IS NOT NULL AND u.fcm <> '' " +
+                                "AND NOT EXISTS (SELECT 1 FROM device_token d WHERE d.student_id = u.student_id AND d.token = u.fcm)");
+                jdbcTemplate.update("UPDATE user SET fcm = NULL WHERE fcm IS NOT NULL");
+                return inserted;
+            });
+            if (moved != null && moved > 0) log.info("user.fcm => device_token {}건 이전", moved);
+        }
+        catch (DuplicateKeyException e) {
+            // 다른 서버가 동시에 이전 => 그 서버의 결과를 씀
+        }
+        catch (Exception e) {
+            log.warn("device_token 이전 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package yiu.aisl.yiuservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.IdGenerators;
+
+import java.util.Map;
+
+// id_generator 에 구간별 시작값이 없으면 (IDENTITY 로 쌓인 기존 행 이후) MAX(id) + 1 로 등록
+// 요청을 받기 전(컨텍스트 초기화 중)에 실행 => 첫 INSERT 가 기존 id 와 겹치지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements InitializingBean {
+
+    // 구간 이름 => (테이블, id 컬럼)
+    private static final Map<String, String[]> SEGMENTS = Map.of(
+            IdGenerators.PUSH, new String[]{"push", "push_id"},
+            IdGenerators.COMMENT_DELIVERY, new String[]{"comment_delivery", "dc_id"},
+            IdGenerators.COMMENT_TAXI, new String[]{"comment_taxi", "tc_id"}
+    );
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        SEGMENTS.forEach((segment, target) -> {
+            try {
+                template.executeWithoutResult(status -> jdbcTemplate.update(
+                        "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") " +
+                                "SELECT ?, t.next_id FROM (SELECT COALESCE(MAX(" + target[1] + "), 0) + 1 AS next_id FROM " + target[0] + ") t " +
+                                "WHERE NOT EXISTS (SELECT 1 FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ?)",
+                        segment, segment));
+            }
+            catch (DuplicateKeyException e) {
+                // 다른 서버가 먼저 등록
+            }
+            catch (Exception e) {
+                log.warn("id_generator {} 시작값 등록 실패: {}", segment, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package yiu.aisl.yiuservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// JDBC batch insert/update
+// IDENTITY 가 아닌 엔티티(IdGenerators) => saveAll, 알림 내역 등 여러 행을 batch_size 개씩 한 번에 전송
+@Configuration
+public class JpaBatchConfig {
+
+    // yml 의 spring.jpa.properties.hibernate.* 가 있으면 그 값이 우선
+    @Bean
+    public HibernatePropertiesCustomizer batchCustomizer(@Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            // 같은 테이블의 INSERT/UPDATE 를 모아서 batch 가 끊기지 않도록
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            // DB 의 next_val = 아직 쓰지 않은 첫 id => 네이티브 대량 INSERT 도 같은 테이블에서 구간을 받아 씀 (IdBlockAllocator)
+            properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+
+    // MySQL 드라이버 => batch 를 multi-row INSERT 하나로 다시 씀 (설정하지 않으면 행마다 왕복)
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")
+                        && !dataSource.getDataSourceProperties().containsKey("rewriteBatchedStatements")) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
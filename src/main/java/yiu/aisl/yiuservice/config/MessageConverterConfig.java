@@ -0,0 +1,30 @@
+package yiu.aisl.yiuservice.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+// 바이너리 응답 => Accept: application/cbor, application/x-jackson-smile 이면 같은 DTO 를 CBOR/Smile 로
+// Spring Boot 의 Jackson 설정(모듈, 날짜 형식 등)을 그대로 씀 => 필드, 값은 JSON 응답과 같음
+// 기본 컨버터 목록에서 같은 클래스 자리(JSON 뒤)를 대체 => Accept 가 없거나 */* 이면 그대로 JSON
+@Configuration
+public class MessageConverterConfig {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
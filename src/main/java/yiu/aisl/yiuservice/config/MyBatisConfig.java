@@ -0,0 +1,40 @@
+package yiu.aisl.yiuservice.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.type.EnumOrdinalTypeHandler;
+import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+// MyBatis 조회 전용 매퍼 (yiu.aisl.yiuservice.mapper) 설정 => 쓰기는 JPA
+@Configuration
+public class MyBatisConfig {
+
+    // databaseId => MySQL 에서만 쓰는 설정 (목록 커서의 fetch size 등)
+    public static final String MYSQL = "mysql";
+
+    @Bean
+    public ConfigurationCustomizer myBatisConfigurationCustomizer() {
+        return configuration -> {
+            // JPA 엔티티와 같이 enum 은 ordinal 로 저장되어 있음
+            configuration.setDefaultEnumTypeHandler(EnumOrdinalTypeHandler.class);
+            // food_code => foodCode
+            configuration.setMapUnderscoreToCamelCase(true);
+        };
+    }
+
+    // 연결한 DB 제품 이름 => databaseId, @Options(databaseId = MYSQL) 은 MySQL 일 때만 적용 (H2 등은 기본값)
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("MySQL", MYSQL);
+        vendors.setProperty("MariaDB", MYSQL);
+        vendors.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+}
@@ -0,0 +1,28 @@
+package yiu.aisl.yiuservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import yiu.aisl.yiuservice.service.NicknameFilter;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 서버에서 등록한 닉네임 => 이 서버의 Bloom filter 에 추가
+@Configuration
+@ConditionalOnProperty(name = "nickname.filter.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class NicknameListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer nicknameListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                   NicknameFilter nicknameFilter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> nicknameFilter.onRegistered(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(NicknameFilter.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,82 @@
+package yiu.aisl.yiuservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.Comment_Delivery;
+import yiu.aisl.yiuservice.domain.Comment_Taxi;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+
+import java.util.List;
+import java.util.Map;
+
+// open_key 컬럼 추가 전에 저장된 진행 중(대기, 수락) 신청글 => open_key 가 NULL 이라 유니크 인덱스(UK_OPEN_APPLY)에 걸리지 않음
+// 기동 시 open_key = 1 로 채움, 채울 행이 없으면 조회 한 번으로 끝
+// 같은 유저가 한 글에 진행 중인 신청글을 여러 개 가진 경우 => 수락된 것, 그다음 최신 것 하나만 남기고 나머지는 취소(CANCELED)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenApplyKeyBackfill implements InitializingBean {
+
+    // 테이블 => (신청글 id 컬럼, 글 id 컬럼, 유니크 인덱스)
+    private static final Map<String, String[]> TABLES = Map.of(
+            "comment_delivery", new String[]{"dc_id", "d_id", Comment_Delivery.UK_OPEN_APPLY},
+            "comment_taxi", new String[]{"tc_id", "t_id", Comment_Taxi.UK_OPEN_APPLY}
+    );
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int waiting = ApplyState.WAITING.ordinal();
+        int accepted = ApplyState.ACCEPTED.ordinal();
+
+        TABLES.forEach((table, columns) -> {
+            String id = columns[0];
+            String post = columns[1];
+            try {
+                Integer pending = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM " + table + " WHERE state IN (?, ?) AND open_key IS NULL", Integer.class, waiting, accepted);
+                if (pending == null || pending == 0) return;
+
+                Integer canceled = template.execute(status -> {
+                    int count = 0;
+                    List<Map<String, Object>> duplicates = jdbcTemplate.queryForList(
+                            "SELECT " + post + ", student_id FROM " + table + " WHERE state IN (?, ?) " +
+                                    "GROUP BY " + post + ", student_id HAVING COUNT(*) > 1", waiting, accepted);
+                    for (Map<String, Object> duplicate : duplicates) {
+                        List<Long> ids = jdbcTemplate.queryForList(
+                                "SELECT " + id + " FROM " + table + " WHERE " + post + " = ? AND student_id = ? AND state IN (?, ?) " +
+                                        "ORDER BY state DESC, " + id + " DESC", Long.class,
+                                duplicate.get(post), duplicate.get("student_id"), waiting, accepted);
+                        // 첫 번째(수락 > 최신)만 남김
+                        for (Long cancel : ids.subList(1, ids.size())) {
+                            count += jdbcTemplate.update("UPDATE " + table + " SET state = ?, open_key = NULL WHERE " + id + " = ?",
+                                    ApplyState.CANCELED.ordinal(), cancel);
+                        }
+                    }
+                    jdbcTemplate.update("UPDATE " + table + " SET open_key = TRUE WHERE state IN (?, ?) AND open_key IS NULL", waiting, accepted);
+                    return count;
+                });
+                log.info("{}.open_key {}건 채움 (중복 신청 {}건 취소)", table, pending, canceled);
+            }
+            catch (DuplicateKeyException e) {
+                // 다른 서버가 동시에 채움, 또는 그 사이 같은 유저가 새로 신청 => 다음 기동 때 다시 시도
+                log.warn("{}.open_key 채우기 중 {} 중복: {}", table, columns[2], e.getMessage());
+            }
+            catch (Exception e) {
+                log.warn("{}.open_key 채우기 실패: {}", table, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package yiu.aisl.yiuservice.config;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+// 요청 하나 = EntityManager 하나, Spring Security 필터보다 먼저 엶
+// => 인증 필터(TokenAuthenticationFilter)가 불러온 User 가 1차 캐시에 남아서 서비스의 findByStudentId 는 SQL 없이 반환
+// spring.jpa.open-in-view 의 기본 인터셉터(컨트롤러 직전에 엶)는 이 필터가 있으면 등록되지 않음
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenEntityManagerInViewConfig {
+
+    @Bean
+    public OpenEntityManagerInViewFilter openEntityManagerInViewFilter() {
+        return new OpenEntityManagerInViewFilter();
+    }
+
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilterRegistration(OpenEntityManagerInViewFilter filter) {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        return registration;
+    }
+}
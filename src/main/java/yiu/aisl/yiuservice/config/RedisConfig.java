@@ -3,7 +3,6 @@ package yiu.aisl.yiuservice.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 
@@ -16,8 +15,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
 
+    // Lettuce => 동기(RedisTemplate), 리액티브(ReactiveStringRedisTemplate, 조회 수 기록) 커넥션 모두 제공
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
     }
 
@@ -0,0 +1,46 @@
+package yiu.aisl.yiuservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// user_report_stats (신고 집계) 추가 전에 쌓인 신고 => report 에서 다시 집계해서 채움
+// 신고 수 합계와 집계 합계가 같으면 (이미 채웠거나 신고가 없으면) 건너뜀
+// 다시 실행해도 같은 결과 (집계를 더하지 않고 덮어씀), 그 사이 신고로 늘어난 집계는 줄이지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportStatsBackfill implements InitializingBean {
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            Long reports = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM report", Long.class);
+            Long counted = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(report_count), 0) FROM user_report_stats", Long.class);
+            if (reports == null || reports.equals(counted)) return;
+
+            Integer rows = new TransactionTemplate(transactionManager).execute(status -> jdbcTemplate.update(
+                    "INSERT INTO user_report_stats (student_id, type, report_count, updated_at) " +
+                            "SELECT to_id, type, COUNT(*), NOW() FROM report GROUP BY to_id, type " +
+                            "ON DUPLICATE KEY UPDATE report_count = GREATEST(report_count, VALUES(report_count)), updated_at = NOW()"));
+            log.info("user_report_stats 다시 집계 (신고 {}건, 기존 집계 {}건, 반영 {}행)", reports, counted, rows);
+        }
+        catch (DuplicateKeyException e) {
+            // 다른 서버가 동시에 집계 => 그 서버의 결과를 씀
+        }
+        catch (Exception e) {
+            log.warn("user_report_stats 집계 실패: {}", e.getMessage());
+        }
+    }
+}
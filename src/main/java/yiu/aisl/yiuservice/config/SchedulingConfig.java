@@ -0,0 +1,22 @@
+package yiu.aisl.yiuservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// @Scheduled 작업 사용 (복제 지연 확인 등)
+// 기본 스케줄러는 스레드 1개 => 오래 걸리는 작업(보관, 조회 수 반영 등)이 리마인더 tick 을 밀어냄
+// spring.task.scheduling.pool.size 로 조절, 기본 4개
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder builder,
+                                                 @Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        return builder.poolSize(poolSize).build();
+    }
+}
@@ -1,13 +1,20 @@
 package yiu.aisl.yiuservice.config;
 
+import yiu.aisl.yiuservice.security.AdaptiveConcurrencyLimiter;
+import yiu.aisl.yiuservice.security.ConcurrencyLimitFilter;
+import yiu.aisl.yiuservice.security.IdempotencyFilter;
+import yiu.aisl.yiuservice.security.IdempotencyStore;
 import yiu.aisl.yiuservice.security.TokenAuthenticationFilter;
 import yiu.aisl.yiuservice.security.TokenProvider;
+import yiu.aisl.yiuservice.security.TokenRevocationStore;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,6 +23,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
+import org.springframework.security.config.annotation.web.configurers.LogoutConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
@@ -29,18 +37,44 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final TokenProvider tokenProvider;
+    private final IdempotencyStore idempotencyStore;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    // Idempotency-Key 헤더로 재전송을 막을 경로
+    @Value("${idempotency.paths:/delivery/create,/taxi/create,/delivery/apply,/taxi/apply}")
+    private Set<String> idempotentPaths;
+
+    // 동시 처리 한도 (ConcurrencyLimitFilter)
+    @Value("${concurrency.limit.enabled:true}")
+    private boolean concurrencyLimitEnabled;
+
+    // 한도 초과 시 가장 먼저 503 으로 버릴 목록 조회 (GET)
+    @Value("${concurrency.limit.bulk-paths:/main,/delivery,/taxi,/notice}")
+    private Set<String> bulkPaths;
+
+    // POST 지만 조회인 경로 => 작성/신청/인증보다 먼저 버림
+    @Value("${concurrency.limit.read-paths:/delivery/detail,/taxi/detail,/notice/detail,/nickcheck}")
+    private Set<String> readPaths;
+
+    @Value("${concurrency.limit.retry-after-seconds:1}")
+    private long retryAfterSeconds;
 
     @Bean
     public SecurityFilterChain filterChain(final @NotNull HttpSecurity http) throws Exception {
         http
                 // ID, Password 문자열을 Base64로 인코딩하여 전달하는 구조
                 .httpBasic(HttpBasicConfigurer::disable)
+                // 기본 LogoutFilter 대신 /logout API 에서 토큰 폐기
+                .logout(LogoutConfigurer::disable)
                 // JWT 기반이므로 사용안함 | 만약 쿠키 기반이라면 사용
                 .csrf(CsrfConfigurer::disable)
                 // CORS 설정
@@ -64,17 +98,19 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize ->
                         authorize
                                 // 회원가입, 로그인은 모두 승인
-                                .requestMatchers("/test", "/main", "/login", "/join", "/nickcheck", "/mail", "/refresh", "/changepwd/mail", "/changepwd", "/token").permitAll()
+                                .requestMatchers("/test", "/ready", "/main", "/login", "/join", "/nickcheck", "/mail", "/refresh", "/changepwd/mail", "/changepwd", "/token").permitAll()
                                 .requestMatchers("/delivery", "/delivery/detail", "/taxi", "/taxi/detail", "/notice", "/notice/detail").permitAll()
                                 .requestMatchers("/delivery/**").authenticated()
                                 .requestMatchers("/taxi/**").authenticated()
                                 .requestMatchers("/user/**").authenticated()
                                 .requestMatchers("/report/create").authenticated()
-                                .requestMatchers("/notice/**", "/report").hasRole("ADMIN")
+                                .requestMatchers("/notice/**", "/report", "/report/stats").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 // JWT 인증 필터 적용
-                .addFilterBefore(new TokenAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new TokenAuthenticationFilter(tokenProvider, tokenRevocationStore), UsernamePasswordAuthenticationFilter.class)
+                // 작성/신청 재전송 방지 (로그인 유저 기준이므로 JWT 인증 필터 뒤)
+                .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper, idempotentPaths), TokenAuthenticationFilter.class)
                 // 에러 핸들링
                 .exceptionHandling(authenticationManager -> authenticationManager
                         .authenticationEntryPoint(new AuthenticationEntryPoint() {
@@ -99,6 +135,11 @@ public class SecurityConfig {
                         })
                 )
         ;
+        // 동시 처리 한도 초과 => 목록 조회부터 503 (JWT 인증 필터 앞)
+        if (concurrencyLimitEnabled) {
+            http.addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper, bulkPaths, readPaths, retryAfterSeconds),
+                    TokenAuthenticationFilter.class);
+        }
         return http.build();
     }
 
@@ -0,0 +1,28 @@
+package yiu.aisl.yiuservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import yiu.aisl.yiuservice.security.TokenRevocationStore;
+
+import java.nio.charset.StandardCharsets;
+
+// 다른 서버에서 폐기한 토큰 => 이 서버의 Bloom filter 에 추가
+@Configuration
+@ConditionalOnProperty(name = "jwt.revocation.listener.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenRevocationListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                          TokenRevocationStore tokenRevocationStore) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> tokenRevocationStore.onRevoked(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenRevocationStore.CHANNEL));
+        return container;
+    }
+}
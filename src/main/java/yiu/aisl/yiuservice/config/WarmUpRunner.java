@@ -0,0 +1,144 @@
+package yiu.aisl.yiuservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.DeliveryListResponse;
+import yiu.aisl.yiuservice.dto.NoticeResponse;
+import yiu.aisl.yiuservice.dto.PushResponse;
+import yiu.aisl.yiuservice.dto.TaxiListResponse;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
+import yiu.aisl.yiuservice.repository.*;
+import yiu.aisl.yiuservice.security.TokenProvider;
+import yiu.aisl.yiuservice.security.TokenRevocationStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 배포 직후 첫 요청들이 느린 문제 => 트래픽을 받기 전에 자주 쓰는 경로(JWT, 조회 쿼리, DTO 직렬화)를 미리 실행
+// ApplicationRunner => 끝난 뒤에야 ReadinessState.ACCEPTING_TRAFFIC (GET /ready 가 200)
+// 읽기 전용 호출만 (없는 학번/글 id 조회, 가짜 DTO 직렬화) => DB, Redis 에 쓰지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+
+    // 존재하지 않는 학번, 글 id
+    private static final long NONE = 0L;
+    private static final User WARM_UP_USER = User.builder().studentId(NONE).nickname("warmup").build();
+
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserRepository userRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final TaxiRepository taxiRepository;
+    private final NoticeRepository noticeRepository;
+    private final PostReadMapper postReadMapper;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final PlatformTransactionManager transactionManager;
+
+    // JWT, 직렬화 반복 횟수 (JIT 컴파일 기준을 넘도록)
+    @Value("${warmup.iterations:500}")
+    private int iterations;
+
+    // 조회 쿼리 반복 횟수 (목록 쿼리는 전체 행을 읽으므로 적게)
+    @Value("${warmup.query-iterations:10}")
+    private int queryIterations;
+
+    // 이 시간이 지나면 남은 단계는 건너뛰고 트래픽 받기 시작
+    @Value("${warmup.max-duration-ms:30000}")
+    private long maxDurationMillis;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMillis);
+
+        repeat("jwt", iterations, deadline, this::jwt);
+        repeat("serialize", iterations, deadline, this::serialize);
+        repeat("query", queryIterations, deadline, this::query);
+
+        log.info("warm-up 완료 ({} ms)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 실패해도 서버 시작은 계속 (warm-up 은 성능 목적)
+    private void repeat(String step, int count, long deadline, Runnable action) {
+        try {
+            for (int i = 0; i < count && System.nanoTime() < deadline; i++) {
+                action.run();
+            }
+        }
+        catch (Exception e) {
+            log.warn("warm-up {} 실패: {}", step, e.getMessage());
+        }
+    }
+
+    // 로그인(토큰 발급) + 인증 필터(서명 검증, 클레임, 폐기 확인)
+    private void jwt() {
+        String token = tokenProvider.createToken(WARM_UP_USER);
+        tokenProvider.validToken(token);
+        Claims claims = tokenProvider.getValidClaims(token);
+        tokenRevocationStore.isRevoked(claims, token);
+    }
+
+    // /main, 목록, 알림 응답 DTO => JSON, CBOR, Smile 직렬화기 생성
+    private void serialize() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, List<?>> payload = Map.of(
+                "delivery", List.of(new DeliveryListResponse(NONE, NONE, "warmup", "warmup", "warmup", now, PostState.ACTIVE,
+                        "warmup", NONE, "warmup", NONE, now, now, NONE, NONE)),
+                "taxi", List.of(new TaxiListResponse(NONE, NONE, "warmup", "warmup", "warmup", now, PostState.ACTIVE,
+                        "warmup", NONE, "warmup", NONE, 1, 4, now, now, NONE, NONE)),
+                "notice", List.of(new NoticeResponse(NONE, "warmup", "warmup", now, now)),
+                "push", List.of(new PushResponse(NONE, EntityCode.NOTICE, NONE, "warmup", now)));
+        try {
+            objectMapper.writeValueAsBytes(payload);
+            cborConverter.getObjectMapper().writeValueAsBytes(payload);
+            smileConverter.getObjectMapper().writeValueAsBytes(payload);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 인증 필터의 유저 조회, 상세조회, 내 활성화 글, 목록 쿼리 => 쿼리 계획, 매퍼, 커넥션 풀
+    private void query() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            userRepository.findByStudentId(NONE);
+            userRepository.existsByNickname(WARM_UP_USER.getNickname());
+            deliveryRepository.findDetailBydId(NONE);
+            taxiRepository.findDetailBytId(NONE);
+            postReadMapper.findDeliveriesByWriter(NONE, PostState.ACTIVE, now);
+            postReadMapper.findActiveDeliveryApplies(NONE, ApplyState.WAITING, ApplyState.ACCEPTED, now);
+            postReadMapper.findTaxisByWriter(NONE, PostState.ACTIVE, now);
+            postReadMapper.findActiveTaxiApplies(NONE, ApplyState.WAITING, ApplyState.ACCEPTED, now);
+            postReadMapper.findOpenDeliveryList(PostState.ACTIVE, now);
+            postReadMapper.findOpenTaxiList(PostState.ACTIVE, now);
+            noticeRepository.findAllByOrderByCreatedAtDesc();
+        });
+    }
+}
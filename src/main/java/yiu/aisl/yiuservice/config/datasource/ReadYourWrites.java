@@ -0,0 +1,51 @@
+package yiu.aisl.yiuservice.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import yiu.aisl.yiuservice.config.CustomUserDetails;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓰기 직후 일정 시간 동안 해당 유저의 읽기를 primary 로 고정
+// => 복제 지연 때문에 방금 쓴 글/신청이 안 보이는 문제 방지
+// 서버 인스턴스마다 따로 기억하므로 여러 대로 운영할 때는 sticky session 과 함께 사용
+public class ReadYourWrites {
+
+    private final long pinMillis;
+
+    // 학번 -> 고정 해제 시각(ms)
+    private final ConcurrentHashMap<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(long pinMillis) {
+        this.pinMillis = pinMillis;
+    }
+
+    public void pin(Long studentId) {
+        pinnedUntil.put(studentId, System.currentTimeMillis() + pinMillis);
+    }
+
+    public boolean isPinned(Long studentId) {
+        Long until = pinnedUntil.get(studentId);
+        if (until == null) return false;
+        if (until > System.currentTimeMillis()) return true;
+        pinnedUntil.remove(studentId, until);
+        return false;
+    }
+
+    // 만료된 항목 정리
+    @Scheduled(fixedDelay = 60000)
+    public void purge() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 현재 요청의 로그인 유저 학번 (비로그인 => null)
+    public static Long currentStudentId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getStudentId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package yiu.aisl.yiuservice.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 복제본(replica)별 복제 지연을 주기적으로 확인
+// 지연이 maxLagSeconds 이하인 복제본만 읽기 대상 => 모두 지연되면 primary 로 읽음
+@Slf4j
+public class ReplicaLagMonitor implements DisposableBean {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile List<String> healthy = List.of();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, String lagColumn, long maxLagSeconds) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.replica.lag-check-interval-ms:2000}")
+    public void check() {
+        List<String> result = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> {
+            Long lag = lag(dataSource);
+            if (lag != null && lag <= maxLagSeconds) result.add(name);
+            else log.warn("replica {} excluded from reads (lag: {})", name, lag);
+        });
+        healthy = List.copyOf(result);
+    }
+
+    // 읽기에 쓸 복제본 (라운드 로빈) => 없으면 null
+    public String next() {
+        List<String> current = healthy;
+        if (current.isEmpty()) return null;
+        return current.get(Math.floorMod(cursor.getAndIncrement(), current.size()));
+    }
+
+    // 복제 지연(초) => 복제 중단, 조회 실패 시 null
+    private Long lag(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) return null;
+            long lag = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package yiu.aisl.yiuservice.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true)) => 복제본, 그 외 => primary
+// 트랜잭션 시작 후 첫 SQL 시점에 결정해야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.getReplicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long studentId = ReadYourWrites.currentStudentId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션이 커밋되면 해당 유저의 읽기를 잠시 primary 로 고정
+            if (studentId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.pin(studentId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (studentId != null && readYourWrites.isPinned(studentId)) return PRIMARY;
+
+        String replica = lagMonitor.next();
+        return replica != null ? replica : PRIMARY;
+    }
+}
@@ -0,0 +1,102 @@
+package yiu.aisl.yiuservice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 읽기/쓰기 분리 => datasource.routing.enabled=true 일 때만 사용 (기본은 spring.datasource 하나)
+// primary => spring.datasource.*, 복제본 => datasource.routing.replica.urls (쉼표로 구분)
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Value("${datasource.routing.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.routing.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.routing.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource.routing.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${datasource.routing.replica.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${datasource.routing.replica.lag-column:Seconds_Behind_Source}")
+    private String lagColumn;
+
+    // 쓰기 후 해당 유저의 읽기를 primary 로 고정하는 시간
+    @Value("${datasource.routing.pin-millis:5000}")
+    private long pinMillis;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(pinMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replicas.put("replica-" + i, replica);
+        }
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, lagQuery, lagColumn, maxLagSeconds);
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      ReplicaLagMonitor replicaLagMonitor,
+                                                      ReadYourWrites readYourWrites) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor, readYourWrites);
+    }
+
+    // 실제 커넥션은 첫 SQL 실행 시점에 가져옴 => 그때는 트랜잭션의 readOnly 여부가 정해져 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // OSIV 로 EntityManager 가 요청 끝까지 열려 있어도 트랜잭션마다 커넥션을 반납
+    // => 한 요청 안에서 읽기 트랜잭션과 쓰기 트랜잭션이 각자 다른 DB 로 갈 수 있음
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -1,7 +1,9 @@
 package yiu.aisl.yiuservice.controller;
 
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,13 +11,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.dto.DeliveryRequest;
 import yiu.aisl.yiuservice.dto.DeliveryResponse;
 import yiu.aisl.yiuservice.repository.UserRepository;
 import yiu.aisl.yiuservice.service.DeliveryService;
+import yiu.aisl.yiuservice.service.ListStreamWriter;
 import yiu.aisl.yiuservice.service.TokenService;
+import yiu.aisl.yiuservice.service.ViewCounter;
 
 import java.util.List;
 
@@ -30,14 +35,15 @@ public class DeliveryController {
 
     // 전체 모집글 조회 [all]
     @GetMapping
-    public ResponseEntity<List> getList() throws Exception {
-        return new ResponseEntity<List>(deliveryService.getList(), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getList(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws Exception {
+        MediaType format = ListStreamWriter.negotiate(accept);
+        return ResponseEntity.ok().contentType(format).body(deliveryService.getList(format));
     }
 
     // 배달모집글 상세조회 [all]
     @PostMapping(value = "/detail", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public ResponseEntity<DeliveryResponse> getDetail(DeliveryRequest.DetailDTO request) throws Exception {
-        return new ResponseEntity<DeliveryResponse>(deliveryService.getDetail(request), HttpStatus.OK);
+    public ResponseEntity<DeliveryResponse> getDetail(@AuthenticationPrincipal CustomUserDetails user, DeliveryRequest.DetailDTO request, HttpServletRequest httpRequest) throws Exception {
+        return new ResponseEntity<DeliveryResponse>(deliveryService.getDetail(request, ViewCounter.viewer(user, httpRequest)), HttpStatus.OK);
     }
 
     // 배달모집글 작성 [writer]
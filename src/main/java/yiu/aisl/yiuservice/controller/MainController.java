@@ -4,12 +4,16 @@ import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.web.bind.annotation.*;
+import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.dto.*;
 import yiu.aisl.yiuservice.repository.UserRepository;
 import yiu.aisl.yiuservice.security.TokenProvider;
@@ -28,12 +32,21 @@ public class MainController {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final TokenProvider tokenProvider;
+    private final ApplicationAvailability applicationAvailability;
 
     @GetMapping("/test")
     public void test() throws Exception{
         mainService.pushTest();
     }
 
+    // 준비 상태 [all] => 로드밸런서 헬스체크용, warm-up(WarmUpRunner) 이 끝나기 전, 종료 중에는 503
+    @GetMapping("/ready")
+    public ResponseEntity<String> ready() {
+        return applicationAvailability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC
+                ? new ResponseEntity<String>("READY", HttpStatus.OK)
+                : new ResponseEntity<String>("NOT_READY", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @GetMapping("/main")
     public ResponseEntity<Map<String, List<?>>> getList() throws Exception {
         return new ResponseEntity<Map<String, List<?>>>(mainService.getList(), HttpStatus.OK);
@@ -65,7 +78,11 @@ public class MainController {
     }
 
     @GetMapping(value = "/logout", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public Boolean logout(HttpServletRequest request, HttpServletResponse response) throws Exception{
+    public Boolean logout(@AuthenticationPrincipal CustomUserDetails user, @RequestParam(required = false) String fcm,
+                          HttpServletRequest request, HttpServletResponse response) throws Exception{
+        // 인증 정보의 credentials => access token (TokenProvider.getAuthentication)
+        String accessToken = (String) SecurityContextHolder.getContext().getAuthentication().getCredentials();
+        mainService.logout(user.getStudentId(), accessToken, fcm);
         new SecurityContextLogoutHandler().logout(request, response, SecurityContextHolder.getContext().getAuthentication());
         return true;
     }
@@ -1,20 +1,24 @@
 package yiu.aisl.yiuservice.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.dto.DeliveryRequest;
 import yiu.aisl.yiuservice.dto.DeliveryResponse;
 import yiu.aisl.yiuservice.dto.NoticeRequest;
 import yiu.aisl.yiuservice.dto.NoticeResponse;
 import yiu.aisl.yiuservice.service.DeliveryService;
+import yiu.aisl.yiuservice.service.ListStreamWriter;
 import yiu.aisl.yiuservice.service.NoticeService;
 
 import java.util.List;
@@ -28,8 +32,9 @@ public class NoticeController {
 
     // 전체 공지사항 조회 [all]
     @GetMapping
-    public ResponseEntity<List> getList() throws Exception {
-        return new ResponseEntity<List>(noticeService.getList(), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getList(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws Exception {
+        MediaType format = ListStreamWriter.negotiate(accept);
+        return ResponseEntity.ok().contentType(format).body(noticeService.getList(format));
     }
 
     // 공지사항 상세조회 [all]
@@ -8,6 +8,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.dto.NoticeRequest;
@@ -25,8 +26,14 @@ public class ReportController {
 
     // 전체 신고 조회 [admin]
     @GetMapping
-    public ResponseEntity<List> getList() throws Exception {
-        return new ResponseEntity<List>(reportService.getList(), HttpStatus.OK);
+    public ResponseEntity<List> getList(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) throws Exception {
+        return new ResponseEntity<List>(reportService.getList(page, size), HttpStatus.OK);
+    }
+
+    // 유저별 신고 누적 조회 [admin]
+    @GetMapping("/stats")
+    public ResponseEntity<List> getStats(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) throws Exception {
+        return new ResponseEntity<List>(reportService.getStats(page, size), HttpStatus.OK);
     }
 
     // 신고 작성 [user]
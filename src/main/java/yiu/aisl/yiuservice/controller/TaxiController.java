@@ -1,20 +1,26 @@
 package yiu.aisl.yiuservice.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.dto.TaxiRequest;
 import yiu.aisl.yiuservice.dto.TaxiResponse;
 import yiu.aisl.yiuservice.repository.UserRepository;
+import yiu.aisl.yiuservice.service.ListStreamWriter;
 import yiu.aisl.yiuservice.service.TaxiService;
 import yiu.aisl.yiuservice.service.TokenService;
+import yiu.aisl.yiuservice.service.ViewCounter;
 
 import java.util.List;
 
@@ -28,14 +34,15 @@ public class TaxiController {
 
     // 전체 택시모집글 조회 [all]
     @GetMapping
-    public ResponseEntity<List> getList() throws Exception {
-        return new ResponseEntity<List>(taxiService.getList(), HttpStatus.OK);
+    public ResponseEntity<StreamingResponseBody> getList(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) throws Exception {
+        MediaType format = ListStreamWriter.negotiate(accept);
+        return ResponseEntity.ok().contentType(format).body(taxiService.getList(format));
     }
 
     // 택시모집글 상세조회 [all]
     @PostMapping(value = "/detail", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public ResponseEntity<TaxiResponse> getDetail(TaxiRequest.DetailDTO request) throws Exception {
-        return new ResponseEntity<TaxiResponse>(taxiService.getDetail(request), HttpStatus.OK);
+    public ResponseEntity<TaxiResponse> getDetail(@AuthenticationPrincipal CustomUserDetails user, TaxiRequest.DetailDTO request, HttpServletRequest httpRequest) throws Exception {
+        return new ResponseEntity<TaxiResponse>(taxiService.getDetail(request, ViewCounter.viewer(user, httpRequest)), HttpStatus.OK);
     }
 
     // 택시모집글 작성 [writer]
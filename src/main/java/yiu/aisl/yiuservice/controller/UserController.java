@@ -53,4 +53,22 @@ public class UserController {
         return new ResponseEntity<List>(userService.getMyAllPushList(user.getStudentId()), HttpStatus.OK);
     }
 
+    // 관심 조건 조회
+    @GetMapping("/interest")
+    public ResponseEntity<List<InterestResponse>> getMyInterestList(@AuthenticationPrincipal CustomUserDetails user) throws Exception {
+        return new ResponseEntity<List<InterestResponse>>(userService.getMyInterestList(user.getStudentId()), HttpStatus.OK);
+    }
+
+    // 관심 조건 추가
+    @PostMapping(value = "/interest/add", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ResponseEntity<Boolean> addInterest(@AuthenticationPrincipal CustomUserDetails user, InterestRequest.AddDTO request) throws Exception {
+        return new ResponseEntity<Boolean>(userService.addInterest(user.getStudentId(), request), HttpStatus.OK);
+    }
+
+    // 관심 조건 삭제
+    @PostMapping(value = "/interest/delete", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ResponseEntity<Boolean> deleteInterest(@AuthenticationPrincipal CustomUserDetails user, InterestRequest.interestIdDTO request) throws Exception {
+        return new ResponseEntity<Boolean>(userService.deleteInterest(user.getStudentId(), request), HttpStatus.OK);
+    }
+
 }
@@ -0,0 +1,55 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+
+import java.time.LocalDateTime;
+
+// 보관된 배달 신청글 => 모집글과 함께 comment_delivery 에서 옮겨짐
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment_DeliveryArchive implements DeliveryPost.Apply {
+    @Id // pk (comment_delivery.dc_id)
+    @Column(unique = true)
+    private Long dcId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "d_id", nullable = false)
+    private DeliveryArchive delivery;
+
+    @ManyToOne
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String contents;
+
+    @Column(columnDefinition = "TEXT")
+    private String details;
+
+    @Column(nullable = false)
+    private ApplyState state;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Comment_DeliveryArchive other)) return false;
+        return getDcId() != null && getDcId().equals(other.getDcId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Comment_DeliveryArchive.class.hashCode();
+    }
+}
@@ -10,13 +10,22 @@ import yiu.aisl.yiuservice.domain.state.ApplyState;
 import java.time.LocalDateTime;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Comment_Taxi {
+@Table(uniqueConstraints = @UniqueConstraint(name = Comment_Taxi.UK_OPEN_APPLY, columnNames = {"t_id", "student_id", "open_key"}),
+        indexes = @Index(name = "idx_comment_taxi_post_user_state", columnList = "t_id, student_id, state"))
+public class Comment_Taxi implements TaxiPost.Apply {
+    // 한 유저가 한 글에 진행 중(대기, 수락)인 신청글을 하나만 갖도록 하는 유니크 인덱스
+    // open_key => 진행 중이면 1, 아니면 NULL (NULL 끼리는 중복으로 보지 않음)
+    public static final String UK_OPEN_APPLY = "uk_comment_taxi_open_apply";
+
     @Id // pk
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_taxi_id")
+    @TableGenerator(name = "comment_taxi_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.COMMENT_TAXI, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(unique = true)
     private Long tcId;
 
@@ -48,4 +57,26 @@ public class Comment_Taxi {
     @UpdateTimestamp
     @Column
     private LocalDateTime updatedAt;
+
+    @Column
+    private Boolean openKey;
+
+    // 저장, 상태 변경 시 open_key 갱신
+    @PrePersist
+    @PreUpdate
+    void syncOpenKey() {
+        openKey = ApplyState.WAITING.equals(state) || ApplyState.ACCEPTED.equals(state) ? Boolean.TRUE : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Comment_Taxi other)) return false;
+        return getTcId() != null && getTcId().equals(other.getTcId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Comment_Taxi.class.hashCode();
+    }
 }
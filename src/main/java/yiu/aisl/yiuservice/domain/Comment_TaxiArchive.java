@@ -0,0 +1,58 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+
+import java.time.LocalDateTime;
+
+// 보관된 택시 신청글 => 모집글과 함께 comment_taxi 에서 옮겨짐
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment_TaxiArchive implements TaxiPost.Apply {
+    @Id // pk (comment_taxi.tc_id)
+    @Column(unique = true)
+    private Long tcId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "t_id", nullable = false)
+    private TaxiArchive taxi;
+
+    @ManyToOne
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String contents;
+
+    @Column(columnDefinition = "TEXT")
+    private String details;
+
+    @Column(nullable = false)
+    private Integer number;
+
+    @Column(nullable = false)
+    private ApplyState state;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Comment_TaxiArchive other)) return false;
+        return getTcId() != null && getTcId().equals(other.getTcId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Comment_TaxiArchive.class.hashCode();
+    }
+}
@@ -12,11 +12,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Delivery {
+// 보관 대상 조회 (ArchiveService)
+@Table(indexes = @Index(name = "idx_delivery_state_updated_at", columnList = "state, updated_at"))
+public class Delivery implements DeliveryPost {
     @Id // pk
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(unique = true)
@@ -61,6 +64,27 @@ public class Delivery {
     @Column
     private LocalDateTime updatedAt;
 
+    // 조회 수, 순 조회자 수 => ViewCounter 가 Redis 집계를 주기적으로 반영 (JPA 는 쓰지 않음)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewerCount;
+
     @OneToMany(mappedBy = "delivery") // 댓글과의 관계 설정
     private List<Comment_Delivery> comments = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Delivery other)) return false;
+        return getDId() != null && getDId().equals(other.getDId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Delivery.class.hashCode();
+    }
 }
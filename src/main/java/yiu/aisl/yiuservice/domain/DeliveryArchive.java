@@ -0,0 +1,84 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import yiu.aisl.yiuservice.domain.state.PostState;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 보관된 배달 모집글 (마감/삭제 후 오래된 글) => delivery 와 같은 컬럼 + 보관 시각
+// ArchiveService 가 INSERT ... SELECT 로 옮기므로 id, 작성/수정 시각은 원본 그대로
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeliveryArchive implements DeliveryPost {
+    @Id // pk (delivery.d_id)
+    @Column(unique = true)
+    private Long dId;
+
+    @ManyToOne
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String contents;
+
+    @Column(nullable = false)
+    private LocalDateTime due;
+
+    @Column(nullable = false)
+    private PostState state;
+
+    @Column(length = 100)
+    private String food;
+
+    @Column
+    private Long foodCode;
+
+    @Column(columnDefinition = "TEXT")
+    private String link;
+
+    @Column(length = 100)
+    private String location;
+
+    @Column
+    private Long locationCode;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column
+    private Long viewCount;
+
+    @Column
+    private Long viewerCount;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "delivery")
+    private List<Comment_DeliveryArchive> comments = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeliveryArchive other)) return false;
+        return getDId() != null && getDId().equals(other.getDId());
+    }
+
+    @Override
+    public int hashCode() {
+        return DeliveryArchive.class.hashCode();
+    }
+}
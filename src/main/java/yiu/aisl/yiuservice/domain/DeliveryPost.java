@@ -0,0 +1,38 @@
+package yiu.aisl.yiuservice.domain;
+
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 진행 중인 글(Delivery), 보관된 글(DeliveryArchive) 공통 => 상세조회 응답을 한 곳에서 만듦 (DeliveryResponse)
+public interface DeliveryPost {
+    Long getDId();
+    User getUser();
+    String getTitle();
+    String getContents();
+    LocalDateTime getDue();
+    PostState getState();
+    String getFood();
+    Long getFoodCode();
+    String getLink();
+    String getLocation();
+    Long getLocationCode();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Long getViewCount();
+    Long getViewerCount();
+    List<? extends Apply> getComments();
+
+    // 신청글 (Comment_Delivery, Comment_DeliveryArchive)
+    interface Apply {
+        Long getDcId();
+        User getUser();
+        String getContents();
+        String getDetails();
+        ApplyState getState();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,52 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 유저 기기별 FCM 토큰 (유저 1명 => 기기 여러 개)
+// 로그인할 때 토큰이 바뀐 경우에만 INSERT, lastSeenAt 은 일정 간격 이상 지났을 때만 갱신
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = DeviceToken.UK_USER_TOKEN, columnNames = {"student_id", "token"}),
+        indexes = @Index(name = "idx_device_token_token", columnList = "token"))
+public class DeviceToken {
+    public static final String UK_USER_TOKEN = "uk_device_token_user_token";
+
+    @Id // pk
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(unique = true)
+    private Long deviceTokenId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    @Column(name = "token", nullable = false, length = 512)
+    private String token;
+
+    @CreationTimestamp
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeviceToken other)) return false;
+        return getDeviceTokenId() != null && getDeviceTokenId().equals(other.getDeviceTokenId());
+    }
+
+    @Override
+    public int hashCode() {
+        return DeviceToken.class.hashCode();
+    }
+}
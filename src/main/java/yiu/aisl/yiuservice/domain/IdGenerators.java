@@ -0,0 +1,18 @@
+package yiu.aisl.yiuservice.domain;
+
+// 테이블 기반 id 발급 (@TableGenerator) 설정
+// IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 JDBC batch insert 가 꺼짐 => 많이 쌓이는 엔티티만 테이블 기반으로
+// pooled-lo => 서버마다 next_val 에서 ALLOCATION_SIZE 개를 한 번에 가져와 메모리에서 발급 (hi/lo)
+public final class IdGenerators {
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String PUSH = "push";
+    public static final String COMMENT_DELIVERY = "comment_delivery";
+    public static final String COMMENT_TAXI = "comment_taxi";
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,71 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.time.LocalDateTime;
+
+// 관심 조건 (배달 => 음식 코드, 택시 => 출발지 코드 → 목적지 코드)
+// 조건 하나 = FCM 토픽 하나 => 새 글 알림은 토픽으로 1회 발송
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = Interest.UK_USER_TOPIC, columnNames = {"student_id", "topic"}))
+public class Interest {
+    public static final String UK_USER_TOPIC = "uk_interest_user_topic";
+
+    @Id // pk
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(unique = true)
+    private Long interestId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    // DELIVERY or TAXI
+    @Column(nullable = false)
+    private EntityCode type;
+
+    @Column
+    private Long foodCode;
+
+    @Column
+    private Long startCode;
+
+    @Column
+    private Long endCode;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @CreationTimestamp
+    @Column
+    private LocalDateTime createdAt;
+
+    // FCM 토픽 이름 => [a-zA-Z0-9-_.~%]
+    public static String deliveryTopic(Long foodCode) {
+        return "delivery-food-" + foodCode;
+    }
+
+    public static String taxiTopic(Long startCode, Long endCode) {
+        return "taxi-route-" + startCode + "-" + endCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Interest other)) return false;
+        return getInterestId() != null && getInterestId().equals(other.getInterestId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Interest.class.hashCode();
+    }
+}
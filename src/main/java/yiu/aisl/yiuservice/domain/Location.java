@@ -6,7 +6,8 @@ import jakarta.persistence.Id;
 import lombok.*;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,4 +18,16 @@ public class Location {
 
     @Column(nullable = false, length = 50)
     private String location;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Location other)) return false;
+        return getCode() != null && getCode().equals(other.getCode());
+    }
+
+    @Override
+    public int hashCode() {
+        return Location.class.hashCode();
+    }
 }
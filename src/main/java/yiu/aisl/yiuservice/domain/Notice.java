@@ -8,7 +8,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,4 +32,16 @@ public class Notice {
     @UpdateTimestamp
     @Column
     private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Notice other)) return false;
+        return getNoticeId() != null && getNoticeId().equals(other.getNoticeId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Notice.class.hashCode();
+    }
 }
@@ -9,13 +9,16 @@ import yiu.aisl.yiuservice.domain.state.EntityCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Push {
     @Id // pk
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "push_id")
+    @TableGenerator(name = "push_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.PUSH, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(unique = true)
     private Long pushId;
 
@@ -35,4 +38,16 @@ public class Push {
     @CreationTimestamp
     @Column
     private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Push other)) return false;
+        return getPushId() != null && getPushId().equals(other.getPushId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Push.class.hashCode();
+    }
 }
@@ -10,11 +10,16 @@ import yiu.aisl.yiuservice.domain.state.EntityCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = Report.UK_REPORT, columnNames = {"from_id", "to_id", "type", "id"}))
 public class Report {
+    // 같은 신고자가 같은 대상의 같은 글을 중복 신고하지 못하도록 하는 유니크 인덱스
+    public static final String UK_REPORT = "uk_report_from_to_type_id";
+
     @Id // pk
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(unique = true)
@@ -44,4 +49,16 @@ public class Report {
     @UpdateTimestamp
     @Column
     private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Report other)) return false;
+        return getReportId() != null && getReportId().equals(other.getReportId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Report.class.hashCode();
+    }
 }
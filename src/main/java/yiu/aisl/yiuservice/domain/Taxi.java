@@ -12,11 +12,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Data
+@Getter
+@Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Taxi {
+// 보관 대상 조회 (ArchiveService)
+@Table(indexes = @Index(name = "idx_taxi_state_updated_at", columnList = "state, updated_at"))
+public class Taxi implements TaxiPost {
     @Id // pk
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(unique = true)
@@ -65,6 +68,27 @@ public class Taxi {
     @Column
     private LocalDateTime updatedAt;
 
+    // 조회 수, 순 조회자 수 => ViewCounter 가 Redis 집계를 주기적으로 반영 (JPA 는 쓰지 않음)
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long viewerCount;
+
     @OneToMany(mappedBy = "taxi") // 댓글과의 관계 설정
     private List<Comment_Taxi> comments = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Taxi other)) return false;
+        return getTId() != null && getTId().equals(other.getTId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Taxi.class.hashCode();
+    }
 }
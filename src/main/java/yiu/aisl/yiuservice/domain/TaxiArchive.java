@@ -0,0 +1,87 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import yiu.aisl.yiuservice.domain.state.PostState;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 보관된 택시 모집글 (마감/삭제 후 오래된 글) => taxi 와 같은 컬럼 + 보관 시각
+// ArchiveService 가 INSERT ... SELECT 로 옮기므로 id, 작성/수정 시각은 원본 그대로
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaxiArchive implements TaxiPost {
+    @Id // pk (taxi.t_id)
+    @Column(unique = true)
+    private Long tId;
+
+    @ManyToOne
+    @JoinColumn(name = "student_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String contents;
+
+    @Column(nullable = false)
+    private LocalDateTime due;
+
+    @Column(nullable = false)
+    private PostState state;
+
+    @Column
+    private Integer current;
+
+    @Column(nullable = false)
+    private Integer max;
+
+    @Column(length = 100)
+    private String start;
+
+    @Column
+    private Long startCode;
+
+    @Column(length = 100)
+    private String end;
+
+    @Column
+    private Long endCode;
+
+    @Column
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Column
+    private Long viewCount;
+
+    @Column
+    private Long viewerCount;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "taxi")
+    private List<Comment_TaxiArchive> comments = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaxiArchive other)) return false;
+        return getTId() != null && getTId().equals(other.getTId());
+    }
+
+    @Override
+    public int hashCode() {
+        return TaxiArchive.class.hashCode();
+    }
+}
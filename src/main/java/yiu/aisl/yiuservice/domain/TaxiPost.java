@@ -0,0 +1,40 @@
+package yiu.aisl.yiuservice.domain;
+
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 진행 중인 글(Taxi), 보관된 글(TaxiArchive) 공통 => 상세조회 응답을 한 곳에서 만듦 (TaxiResponse)
+public interface TaxiPost {
+    Long getTId();
+    User getUser();
+    String getTitle();
+    String getContents();
+    LocalDateTime getDue();
+    PostState getState();
+    Integer getCurrent();
+    Integer getMax();
+    String getStart();
+    Long getStartCode();
+    String getEnd();
+    Long getEndCode();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Long getViewCount();
+    Long getViewerCount();
+    List<? extends Apply> getComments();
+
+    // 신청글 (Comment_Taxi, Comment_TaxiArchive)
+    interface Apply {
+        Long getTcId();
+        User getUser();
+        String getContents();
+        String getDetails();
+        Integer getNumber();
+        ApplyState getState();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -15,7 +15,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity // 테이블과 링크될 클래스(카멜케이스 + _ => 테이블 이름 매칭) // ex) SalesManager.java -> sales_manager table
-@Data
+@Getter
+@Setter
 @Builder // 1) 해당 클래스 빌더 패턴 클래스 생성 2) 생성자 상단 선언 -> 생성자에 포함된 필드만 빌더에 포함
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 1) 기본 생성자 자동 추가 2) public Posts() {}와 같은 효과
@@ -38,9 +39,6 @@ public class User {
     @Column
     private Byte warn;
 
-    @Column(columnDefinition = "TEXT")
-    private String fcm;
-
 //    @CreatedDate
     @CreationTimestamp
     @Column
@@ -69,10 +67,6 @@ public class User {
         this.refreshToken = refreshToken;
     }
 
-    public void setFcm(String fcm) {
-        this.fcm = fcm;
-    }
-
     public User(Long studentId, String refreshToken) {
         this.studentId = studentId;
         this.refreshToken = refreshToken;
@@ -82,4 +76,19 @@ public class User {
         this.refreshToken = newRefreshToken;
         return this;
     }
+
+    // 엔티티 동등성 => pk 만 비교 (연관 엔티티, 컬렉션을 건드리지 않으므로 지연 로딩 없음)
+    // hashCode 는 클래스 기준 => 저장 전(pk 없음)에 Set 에 넣은 엔티티도 저장 후 같은 버킷
+    // 프록시에 equals 를 부르면 프록시가 초기화됨 => 작성자 확인은 getStudentId() 비교 (프록시도 pk 는 초기화 없이 반환)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof User other)) return false;
+        return getStudentId() != null && getStudentId().equals(other.getStudentId());
+    }
+
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
 }
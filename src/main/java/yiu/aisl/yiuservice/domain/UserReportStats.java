@@ -0,0 +1,50 @@
+package yiu.aisl.yiuservice.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 신고 당한 유저별, 신고 유형별 누적 신고 수 (report 테이블을 스캔하지 않기 위한 집계 테이블)
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_report_stats_student_type", columnNames = {"student_id", "type"}))
+public class UserReportStats {
+    @Id // pk
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(unique = true)
+    private Long statsId;
+
+    // 신고 당한 유저 학번
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(nullable = false)
+    private Integer type;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long reportCount;
+
+    @UpdateTimestamp
+    @Column
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserReportStats other)) return false;
+        return getStatsId() != null && getStatsId().equals(other.getStatsId());
+    }
+
+    @Override
+    public int hashCode() {
+        return UserReportStats.class.hashCode();
+    }
+}
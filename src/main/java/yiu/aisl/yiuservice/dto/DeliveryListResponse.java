@@ -0,0 +1,49 @@
+package yiu.aisl.yiuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import yiu.aisl.yiuservice.domain.ActiveEntity;
+import yiu.aisl.yiuservice.domain.state.PostState;
+
+import java.time.LocalDateTime;
+
+// 배달모집글 목록용 => contents(TEXT), link(TEXT) 는 조회하지 않음 (상세조회에서만)
+// DeliveryRepository 의 JPQL 생성자 표현식에서 필드 순서대로 생성
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryListResponse implements ActiveEntity {
+    public static final int PREVIEW_LENGTH = 50;
+
+    private Long dId;
+
+    private Long studentId;
+
+    private String nickname;
+
+    private String title;
+
+    // contents 앞부분 (최대 PREVIEW_LENGTH 자)
+    private String preview;
+
+    private LocalDateTime due;
+
+    private PostState state;
+
+    private String food;
+
+    private Long foodCode;
+
+    private String location;
+
+    private Long locationCode;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long viewCount;
+
+    private Long viewerCount;
+}
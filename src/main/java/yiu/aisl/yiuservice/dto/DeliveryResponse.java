@@ -7,6 +7,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import yiu.aisl.yiuservice.domain.ActiveEntity;
 import yiu.aisl.yiuservice.domain.Delivery;
+import yiu.aisl.yiuservice.domain.DeliveryPost;
 import yiu.aisl.yiuservice.domain.User;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
@@ -48,6 +49,11 @@ public class DeliveryResponse implements ActiveEntity {
 
     private LocalDateTime updatedAt;
 
+    // 조회 수, 순 조회자 수 (주기적으로 반영되므로 최근 조회는 빠질 수 있음)
+    private Long viewCount;
+
+    private Long viewerCount;
+
     private List<CommentDto> comment;
 
     @Data
@@ -87,11 +93,14 @@ public class DeliveryResponse implements ActiveEntity {
                 delivery.getLocationCode(),
                 delivery.getCreatedAt(),
                 delivery.getUpdatedAt(),
+                delivery.getViewCount(),
+                delivery.getViewerCount(),
                 null
         );
     }
 
-    public static DeliveryResponse GetDeliveryDetailDTO(Delivery delivery) {
+    // 진행 중인 글, 보관된 글 상세조회
+    public static DeliveryResponse GetDeliveryDetailDTO(DeliveryPost delivery) {
         return new DeliveryResponse(
                 delivery.getDId(),
                 delivery.getUser().getStudentId(),
@@ -107,6 +116,8 @@ public class DeliveryResponse implements ActiveEntity {
                 delivery.getLocationCode(),
                 delivery.getCreatedAt(),
                 delivery.getUpdatedAt(),
+                delivery.getViewCount(),
+                delivery.getViewerCount(),
                 delivery.getComments().stream()
                         .map(comment -> new CommentDto(
                                 comment.getDcId(),
@@ -0,0 +1,5 @@
+package yiu.aisl.yiuservice.dto;
+
+// 마감 시간이 지나 FINISHED 로 바꿀 글 (마감 이벤트 발행용)
+public record ExpiredPost(Long postId, Long writerId) {
+}
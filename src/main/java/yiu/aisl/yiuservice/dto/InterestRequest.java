@@ -0,0 +1,24 @@
+package yiu.aisl.yiuservice.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class InterestRequest {
+
+    // 배달 => foodCode, 택시 => startCode + endCode
+    @Getter
+    @Setter
+    public static class AddDTO {
+        private Long foodCode;
+
+        private Long startCode;
+
+        private Long endCode;
+    }
+
+    @Getter
+    @Setter
+    public static class interestIdDTO {
+        private Long interestId;
+    }
+}
@@ -0,0 +1,37 @@
+package yiu.aisl.yiuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import yiu.aisl.yiuservice.domain.Interest;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestResponse {
+    private Long interestId;
+
+    private EntityCode type;
+
+    private Long foodCode;
+
+    private Long startCode;
+
+    private Long endCode;
+
+    private LocalDateTime createdAt;
+
+    public static InterestResponse GetInterestDTO(Interest interest) {
+        return new InterestResponse(
+                interest.getInterestId(),
+                interest.getType(),
+                interest.getFoodCode(),
+                interest.getStartCode(),
+                interest.getEndCode(),
+                interest.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package yiu.aisl.yiuservice.dto;
+
+import java.time.LocalDateTime;
+
+// 리마인더 재예약 대상 (재시작 시 ReminderScheduler 가 다시 채움)
+public record ReminderTarget(Long postId, LocalDateTime due) {
+}
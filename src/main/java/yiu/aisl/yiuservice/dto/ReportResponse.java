@@ -21,8 +21,12 @@ public class ReportResponse {
 
     private Long fromId;
 
+    private String fromNickname;
+
     private Long toId;
 
+    private String toNickname;
+
     private String contents;
 
     private Integer type;
@@ -37,7 +41,9 @@ public class ReportResponse {
         return new ReportResponse(
                 report.getReportId(),
                 report.getFromId().getStudentId(),
+                report.getFromId().getNickname(),
                 report.getToId().getStudentId(),
+                report.getToId().getNickname(),
                 report.getContents(),
                 report.getType(),
                 report.getId(),
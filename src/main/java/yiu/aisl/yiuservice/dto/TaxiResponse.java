@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import yiu.aisl.yiuservice.domain.ActiveEntity;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.domain.Taxi;
+import yiu.aisl.yiuservice.domain.TaxiPost;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.PostState;
 
@@ -47,6 +48,11 @@ public class TaxiResponse implements ActiveEntity {
 
     private LocalDateTime updatedAt;
 
+    // 조회 수, 순 조회자 수 (주기적으로 반영되므로 최근 조회는 빠질 수 있음)
+    private Long viewCount;
+
+    private Long viewerCount;
+
     private List<CommentDto> comment;
 
     @Data
@@ -89,11 +95,14 @@ public class TaxiResponse implements ActiveEntity {
                 taxi.getMax(),
                 taxi.getCreatedAt(),
                 taxi.getUpdatedAt(),
+                taxi.getViewCount(),
+                taxi.getViewerCount(),
                 null
         );
     }
 
-    public static TaxiResponse GetTaxiDetailDTO(Taxi taxi) {
+    // 진행 중인 글, 보관된 글 상세조회
+    public static TaxiResponse GetTaxiDetailDTO(TaxiPost taxi) {
         return new TaxiResponse(
                 taxi.getTId(),
                 taxi.getUser().getStudentId(),
@@ -110,6 +119,8 @@ public class TaxiResponse implements ActiveEntity {
                 taxi.getMax(),
                 taxi.getCreatedAt(),
                 taxi.getUpdatedAt(),
+                taxi.getViewCount(),
+                taxi.getViewerCount(),
                 taxi.getComments().stream()
                         .map(comment -> new TaxiResponse.CommentDto(
                                 comment.getTcId(),
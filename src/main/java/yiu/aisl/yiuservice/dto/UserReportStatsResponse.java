@@ -0,0 +1,30 @@
+package yiu.aisl.yiuservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import yiu.aisl.yiuservice.domain.UserReportStats;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserReportStatsResponse {
+    private Long studentId;
+
+    private Integer type;
+
+    private Long reportCount;
+
+    private LocalDateTime updatedAt;
+
+    public static UserReportStatsResponse GetUserReportStatsDTO(UserReportStats stats) {
+        return new UserReportStatsResponse(
+                stats.getStudentId(),
+                stats.getType(),
+                stats.getReportCount(),
+                stats.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.time.LocalDateTime;
+
+// 신청 수락 => 신청자에게 알림, 출발(마감) 전 리마인더 예약 (due)
+public record ApplicationAcceptedEvent(EntityCode type, Long postId, Long applicationId, Long applicantId,
+                                       String postTitle, String writerNickname, LocalDateTime due) implements PostEvent {
+}
@@ -0,0 +1,7 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 신청자가 신청 취소
+public record ApplicationCanceledEvent(EntityCode type, Long postId, Long applicationId, Long applicantId) implements PostEvent {
+}
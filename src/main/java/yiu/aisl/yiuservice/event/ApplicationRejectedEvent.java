@@ -0,0 +1,8 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 신청 거절 => 신청자에게 알림
+public record ApplicationRejectedEvent(EntityCode type, Long postId, Long applicationId, Long applicantId,
+                                       String postTitle, String writerNickname) implements PostEvent {
+}
@@ -0,0 +1,8 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 신청 => 작성자에게 알림
+public record ApplicationSubmittedEvent(EntityCode type, Long postId, Long applicationId, Long applicantId,
+                                        Long writerId, String postTitle, String applicantNickname) implements PostEvent {
+}
@@ -0,0 +1,5 @@
+package yiu.aisl.yiuservice.event;
+
+// 공지사항 작성 => 커밋 후 전체 알림 (NoticeBroadcaster)
+public record NoticeCreatedEvent(Long noticeId, String title) {
+}
@@ -0,0 +1,8 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 글 작성 => 배달은 foodCode, 택시는 startCode, endCode (관심 토픽 알림)
+public record PostCreatedEvent(EntityCode type, Long postId, Long writerId, String title,
+                               Long foodCode, Long startCode, Long endCode) implements PostEvent {
+}
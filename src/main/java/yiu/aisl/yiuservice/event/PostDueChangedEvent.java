@@ -0,0 +1,9 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.time.LocalDateTime;
+
+// 글 수정으로 due 변경 => 예약된 리마인더 시각 변경
+public record PostDueChangedEvent(EntityCode type, Long postId, LocalDateTime due) implements PostEvent {
+}
@@ -0,0 +1,10 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 글(배달, 택시) 단위 도메인 이벤트 => (type, postId) 로 PostEventBus 파티션 결정 => 같은 글의 이벤트는 순서대로 처리
+public interface PostEvent {
+    EntityCode type();
+
+    Long postId();
+}
@@ -0,0 +1,122 @@
+package yiu.aisl.yiuservice.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 서버 내부 도메인 이벤트 버스
+// 서비스가 발행한 PostEvent => 커밋 후 (type, postId) 파티션의 고정 크기 원형 버퍼(ArrayBlockingQueue)에 넣음
+// 파티션마다 소비 스레드 1개 => 같은 글의 이벤트는 발행 순서대로, 버퍼가 가득 차면 발행하는 스레드가 대기 (back-pressure)
+@Slf4j
+@Component
+public class PostEventBus implements InitializingBean, DisposableBean {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final List<PostEventHandler> handlers;
+    private final List<ArrayBlockingQueue<PostEvent>> partitions = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    // 넣었지만 처리가 끝나지 않은 이벤트 수
+    private final AtomicLong pending = new AtomicLong();
+    private volatile boolean running = true;
+
+    @Value("${event.bus.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    public PostEventBus(List<PostEventHandler> handlers,
+                        @Value("${event.bus.partitions:4}") int partitionCount,
+                        @Value("${event.bus.capacity:1024}") int capacity) {
+        this.handlers = handlers;
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayBlockingQueue<>(capacity));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        for (int i = 0; i < partitions.size(); i++) {
+            ArrayBlockingQueue<PostEvent> queue = partitions.get(i);
+            Thread worker = new Thread(() -> consume(queue), "post-event-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // 트랜잭션 커밋 후 버스로 (롤백되면 버림, 트랜잭션 밖에서 발행하면 바로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostEvent(PostEvent event) {
+        publish(event);
+    }
+
+    public void publish(PostEvent event) {
+        int index = Math.floorMod(31 * event.type().ordinal() + Long.hashCode(event.postId()), partitions.size());
+        ArrayBlockingQueue<PostEvent> queue = partitions.get(index);
+        pending.incrementAndGet();
+        try {
+            if (!queue.offer(event)) {
+                log.warn("이벤트 버스 파티션 {} 가득 참 => 자리가 날 때까지 대기", index);
+                queue.put(event);
+            }
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("이벤트 발행 중단: {}", event);
+        }
+    }
+
+    // 넣은 이벤트가 모두 처리될 때까지 대기 => false 면 시간 초과
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private void consume(ArrayBlockingQueue<PostEvent> queue) {
+        while (running || !queue.isEmpty()) {
+            PostEvent event;
+            try {
+                event = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == null) continue;
+
+            // 소비자 하나가 실패해도 나머지 소비자, 다음 이벤트는 계속 처리
+            for (PostEventHandler handler : handlers) {
+                try {
+                    handler.handle(event);
+                } catch (Exception e) {
+                    log.warn("이벤트 처리 실패 ({}): {}", event, e.getMessage());
+                }
+            }
+            pending.decrementAndGet();
+        }
+    }
+
+    // 종료 => 남은 이벤트를 처리할 시간을 준 뒤 소비 스레드 중단
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!awaitIdle(Duration.ofMillis(shutdownTimeoutMillis)))
+            log.warn("이벤트 버스 종료 => 처리하지 못한 이벤트 {}건", pending.get());
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(POLL_MILLIS * 5);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package yiu.aisl.yiuservice.event;
+
+// PostEventBus 소비자 => 파티션 스레드에서 호출 (요청 스레드 아님)
+public interface PostEventHandler {
+    void handle(PostEvent event);
+}
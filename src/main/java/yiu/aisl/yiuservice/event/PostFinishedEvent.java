@@ -0,0 +1,7 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 글 마감 (작성자 마감, 택시 인원 다 참) => 대기 중이던 신청은 함께 FINISHED
+public record PostFinishedEvent(EntityCode type, Long postId, Long writerId) implements PostEvent {
+}
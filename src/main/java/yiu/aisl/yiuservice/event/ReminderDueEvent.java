@@ -0,0 +1,8 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 리마인더 시각 도달 (ReminderScheduler) => 작성자, 수락된 신청자에게 알림 (ReminderPushHandler)
+// 타이밍 휠의 키로도 사용 => (type, postId) 마다 예약 하나
+public record ReminderDueEvent(EntityCode type, Long postId) implements PostEvent {
+}
@@ -0,0 +1,12 @@
+package yiu.aisl.yiuservice.event;
+
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+// 택시 인원 변경 (신청 수락)
+public record SeatsChangedEvent(Long postId, int current, int max) implements PostEvent {
+
+    @Override
+    public EntityCode type() {
+        return EntityCode.TAXI;
+    }
+}
@@ -38,7 +38,9 @@ public enum ErrorCode {
     // 서버 오류
     INTERNAL_SERVER_ERROR(500, ResultMessage.INTERNAL_SERVER_ERROR),
     // 레디스 서버 오류
-    REDIS_SERVER_ERROR(500, ResultMessage.REDIS_SERVER_ERROR)
+    REDIS_SERVER_ERROR(500, ResultMessage.REDIS_SERVER_ERROR),
+    // 요청 과다 (동시 처리 한도 초과)
+    SERVICE_UNAVAILABLE(503, ResultMessage.SERVICE_UNAVAILABLE)
     ;
 
 
@@ -75,6 +77,7 @@ public enum ErrorCode {
         String EXCESS = "인원 초과";
         String INTERNAL_SERVER_ERROR = "내부 서버 오류";
         String REDIS_SERVER_ERROR = "Redis 서버 오류";
+        String SERVICE_UNAVAILABLE = "요청이 많아 잠시 후 다시 시도";
     }
 
 
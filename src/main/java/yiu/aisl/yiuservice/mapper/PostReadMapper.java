@@ -0,0 +1,187 @@
+package yiu.aisl.yiuservice.mapper;
+
+import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import yiu.aisl.yiuservice.config.MyBatisConfig;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 목록, 내 활성화 글 조회 => SQL 결과를 DTO 로 바로 매핑 (엔티티 생성, 스냅샷, 작성자 User 로딩 없음)
+// 글 작성/수정/신청 등 쓰기는 JPA 리포지토리 사용
+@Mapper
+public interface PostReadMapper {
+
+    // 목록용 => contents 는 앞부분만 (DeliveryListResponse.PREVIEW_LENGTH)
+    String DELIVERY_SELECT = "SELECT d.d_id, u.student_id, u.nickname, d.title, " +
+            "SUBSTRING(d.contents, 1, " + DeliveryListResponse.PREVIEW_LENGTH + ") AS preview, " +
+            "d.due, d.state, d.food, d.food_code, d.location, d.location_code, d.created_at, d.updated_at, d.view_count, d.viewer_count " +
+            "FROM delivery d JOIN user u ON u.student_id = d.student_id ";
+
+    String DELIVERY_LIST = DELIVERY_SELECT + "WHERE d.state = #{state} ORDER BY d.created_at DESC";
+    // 진행 중 => ACTIVE 이면서 마감 시간 전
+    String DELIVERY_OPEN_LIST = DELIVERY_SELECT + "WHERE d.state = #{active} AND d.due > #{now} ORDER BY d.created_at DESC";
+    // 마감 => FINISHED + 마감 시간이 지났지만 아직 마감 처리(ExpireScheduler) 전인 ACTIVE
+    String DELIVERY_CLOSED_LIST = DELIVERY_SELECT + "WHERE d.state = #{finished} OR (d.state = #{active} AND d.due <= #{now}) ORDER BY d.created_at DESC";
+
+    String TAXI_SELECT = "SELECT t.t_id, u.student_id, u.nickname, t.title, " +
+            "SUBSTRING(t.contents, 1, " + TaxiListResponse.PREVIEW_LENGTH + ") AS preview, " +
+            "t.due, t.state, t.start, t.start_code, t.end, t.end_code, t.current, t.max, t.created_at, t.updated_at, t.view_count, t.viewer_count " +
+            "FROM taxi t JOIN user u ON u.student_id = t.student_id ";
+
+    String TAXI_LIST = TAXI_SELECT + "WHERE t.state = #{state} ORDER BY t.created_at DESC";
+    String TAXI_OPEN_LIST = TAXI_SELECT + "WHERE t.state = #{active} AND t.due > #{now} ORDER BY t.created_at DESC";
+    String TAXI_CLOSED_LIST = TAXI_SELECT + "WHERE t.state = #{finished} OR (t.state = #{active} AND t.due <= #{now}) ORDER BY t.created_at DESC";
+
+    // 모집글 + 작성자 => 컬럼 이름 앞에 d_ / t_ (신청글과 한 행으로 조회할 때 겹치지 않도록)
+    String DELIVERY_COLUMNS = "d.d_id AS d_d_id, du.student_id AS d_student_id, du.nickname AS d_nickname, " +
+            "d.title AS d_title, d.contents AS d_contents, d.due AS d_due, d.state AS d_state, " +
+            "d.food AS d_food, d.food_code AS d_food_code, d.link AS d_link, d.location AS d_location, " +
+            "d.location_code AS d_location_code, d.created_at AS d_created_at, d.updated_at AS d_updated_at, " +
+            "d.view_count AS d_view_count, d.viewer_count AS d_viewer_count";
+
+    String TAXI_COLUMNS = "t.t_id AS t_t_id, tu.student_id AS t_student_id, tu.nickname AS t_nickname, " +
+            "t.title AS t_title, t.contents AS t_contents, t.due AS t_due, t.state AS t_state, " +
+            "t.start AS t_start, t.start_code AS t_start_code, t.end AS t_end, t.end_code AS t_end_code, " +
+            "t.current AS t_current, t.max AS t_max, t.created_at AS t_created_at, t.updated_at AS t_updated_at, " +
+            "t.view_count AS t_view_count, t.viewer_count AS t_viewer_count";
+
+    @Select(DELIVERY_LIST)
+    List<DeliveryListResponse> findDeliveryListByState(@Param("state") PostState state);
+
+    @Select(DELIVERY_OPEN_LIST)
+    List<DeliveryListResponse> findOpenDeliveryList(@Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    // 상태는 DB 값 그대로 => 아직 ACTIVE 인 행은 서비스에서 FINISHED 로 바꿔서 응답
+    @Select(DELIVERY_CLOSED_LIST)
+    List<DeliveryListResponse> findClosedDeliveryList(@Param("finished") PostState finished, @Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    // 스트리밍 응답용 => MySQL 에서 행 단위로 읽도록 fetch size 지정 (다른 DB 는 기본값), 트랜잭션 안에서만 사용
+    @Select(DELIVERY_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<DeliveryListResponse> cursorDeliveryListByState(@Param("state") PostState state);
+
+    @Select(DELIVERY_OPEN_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<DeliveryListResponse> cursorOpenDeliveryList(@Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    @Select(DELIVERY_CLOSED_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<DeliveryListResponse> cursorClosedDeliveryList(@Param("finished") PostState finished, @Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    @Select(TAXI_LIST)
+    List<TaxiListResponse> findTaxiListByState(@Param("state") PostState state);
+
+    @Select(TAXI_OPEN_LIST)
+    List<TaxiListResponse> findOpenTaxiList(@Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    @Select(TAXI_CLOSED_LIST)
+    List<TaxiListResponse> findClosedTaxiList(@Param("finished") PostState finished, @Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    @Select(TAXI_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<TaxiListResponse> cursorTaxiListByState(@Param("state") PostState state);
+
+    @Select(TAXI_OPEN_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<TaxiListResponse> cursorOpenTaxiList(@Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    @Select(TAXI_CLOSED_LIST)
+    @Options(fetchSize = Integer.MIN_VALUE, databaseId = MyBatisConfig.MYSQL)
+    Cursor<TaxiListResponse> cursorClosedTaxiList(@Param("finished") PostState finished, @Param("active") PostState active, @Param("now") LocalDateTime now);
+
+    // 내가 작성한 진행 중인 배달모집글 (마감 시간 전)
+    @Select("SELECT " + DELIVERY_COLUMNS + " FROM delivery d JOIN user du ON du.student_id = d.student_id " +
+            "WHERE d.student_id = #{studentId} AND d.state = #{state} AND d.due > #{now}")
+    @Results(id = "deliveryResult", value = {
+            @Result(id = true, property = "dId", column = "d_d_id"),
+            @Result(property = "studentId", column = "d_student_id"),
+            @Result(property = "nickname", column = "d_nickname"),
+            @Result(property = "title", column = "d_title"),
+            @Result(property = "contents", column = "d_contents"),
+            @Result(property = "due", column = "d_due"),
+            @Result(property = "state", column = "d_state"),
+            @Result(property = "food", column = "d_food"),
+            @Result(property = "foodCode", column = "d_food_code"),
+            @Result(property = "link", column = "d_link"),
+            @Result(property = "location", column = "d_location"),
+            @Result(property = "locationCode", column = "d_location_code"),
+            @Result(property = "createdAt", column = "d_created_at"),
+            @Result(property = "updatedAt", column = "d_updated_at"),
+            @Result(property = "viewCount", column = "d_view_count"),
+            @Result(property = "viewerCount", column = "d_viewer_count")
+    })
+    List<DeliveryResponse> findDeliveriesByWriter(@Param("studentId") Long studentId, @Param("state") PostState state, @Param("now") LocalDateTime now);
+
+    // 내 활성화 배달 신청글 + 신청한 모집글 + 모집글 작성자 (JOIN 한 번)
+    // 활성화 => 마감 시간 전인 글의 대기(waiting), 수락(accepted) 신청글
+    @Select("SELECT c.dc_id, me.student_id, me.nickname, c.contents, c.details, c.state, c.created_at, c.updated_at, " +
+            DELIVERY_COLUMNS + " FROM comment_delivery c " +
+            "JOIN user me ON me.student_id = c.student_id " +
+            "JOIN delivery d ON d.d_id = c.d_id " +
+            "JOIN user du ON du.student_id = d.student_id " +
+            "WHERE c.student_id = #{studentId} AND c.state IN (#{waiting}, #{accepted}) AND d.due > #{now}")
+    @Results(id = "commentDeliveryResult", value = {
+            @Result(id = true, property = "dcId", column = "dc_id"),
+            @Result(property = "studentId", column = "student_id"),
+            @Result(property = "nickname", column = "nickname"),
+            @Result(property = "contents", column = "contents"),
+            @Result(property = "details", column = "details"),
+            @Result(property = "state", column = "state"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "updatedAt", column = "updated_at"),
+            @Result(property = "delivery", one = @One(resultMap = "deliveryResult"))
+    })
+    List<Comment_DeliveryResponse> findActiveDeliveryApplies(@Param("studentId") Long studentId, @Param("waiting") ApplyState waiting,
+                                                             @Param("accepted") ApplyState accepted, @Param("now") LocalDateTime now);
+
+    // 내가 작성한 진행 중인 택시모집글 (마감 시간 전)
+    @Select("SELECT " + TAXI_COLUMNS + " FROM taxi t JOIN user tu ON tu.student_id = t.student_id " +
+            "WHERE t.student_id = #{studentId} AND t.state = #{state} AND t.due > #{now}")
+    @Results(id = "taxiResult", value = {
+            @Result(id = true, property = "tId", column = "t_t_id"),
+            @Result(property = "studentId", column = "t_student_id"),
+            @Result(property = "nickname", column = "t_nickname"),
+            @Result(property = "title", column = "t_title"),
+            @Result(property = "contents", column = "t_contents"),
+            @Result(property = "due", column = "t_due"),
+            @Result(property = "state", column = "t_state"),
+            @Result(property = "start", column = "t_start"),
+            @Result(property = "startCode", column = "t_start_code"),
+            @Result(property = "end", column = "t_end"),
+            @Result(property = "endCode", column = "t_end_code"),
+            @Result(property = "current", column = "t_current"),
+            @Result(property = "max", column = "t_max"),
+            @Result(property = "createdAt", column = "t_created_at"),
+            @Result(property = "updatedAt", column = "t_updated_at"),
+            @Result(property = "viewCount", column = "t_view_count"),
+            @Result(property = "viewerCount", column = "t_viewer_count")
+    })
+    List<TaxiResponse> findTaxisByWriter(@Param("studentId") Long studentId, @Param("state") PostState state, @Param("now") LocalDateTime now);
+
+    // 내 활성화 택시 신청글 + 신청한 모집글 + 모집글 작성자 (JOIN 한 번)
+    // 활성화 => 마감 시간 전인 글의 대기(waiting), 수락(accepted) 신청글
+    @Select("SELECT c.tc_id, me.student_id, me.nickname, c.contents, c.details, c.number, c.state, c.created_at, c.updated_at, " +
+            TAXI_COLUMNS + " FROM comment_taxi c " +
+            "JOIN user me ON me.student_id = c.student_id " +
+            "JOIN taxi t ON t.t_id = c.t_id " +
+            "JOIN user tu ON tu.student_id = t.student_id " +
+            "WHERE c.student_id = #{studentId} AND c.state IN (#{waiting}, #{accepted}) AND t.due > #{now}")
+    @Results(id = "commentTaxiResult", value = {
+            @Result(id = true, property = "tcId", column = "tc_id"),
+            @Result(property = "studentId", column = "student_id"),
+            @Result(property = "nickname", column = "nickname"),
+            @Result(property = "contents", column = "contents"),
+            @Result(property = "details", column = "details"),
+            @Result(property = "number", column = "number"),
+            @Result(property = "state", column = "state"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "updatedAt", column = "updated_at"),
+            @Result(property = "taxi", one = @One(resultMap = "taxiResult"))
+    })
+    List<Comment_TaxiResponse> findActiveTaxiApplies(@Param("studentId") Long studentId, @Param("waiting") ApplyState waiting,
+                                                     @Param("accepted") ApplyState accepted, @Param("now") LocalDateTime now);
+}
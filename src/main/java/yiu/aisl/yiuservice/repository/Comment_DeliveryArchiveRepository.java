@@ -0,0 +1,22 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Comment_DeliveryArchive;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface Comment_DeliveryArchiveRepository extends JpaRepository<Comment_DeliveryArchive, Long> {
+
+    // 모집글(ids)의 신청글 comment_delivery => comment_delivery_archive 복사
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO comment_delivery_archive (dc_id, d_id, student_id, contents, details, state, created_at, updated_at) " +
+            "SELECT dc_id, d_id, student_id, contents, details, state, created_at, updated_at " +
+            "FROM comment_delivery WHERE d_id IN (:ids)", nativeQuery = true)
+    int copyFrom(@Param("ids") List<Long> ids);
+}
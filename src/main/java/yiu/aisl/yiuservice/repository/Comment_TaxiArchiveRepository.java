@@ -0,0 +1,22 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Comment_TaxiArchive;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface Comment_TaxiArchiveRepository extends JpaRepository<Comment_TaxiArchive, Long> {
+
+    // 모집글(ids)의 신청글 comment_taxi => comment_taxi_archive 복사
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO comment_taxi_archive (tc_id, t_id, student_id, contents, details, number, state, created_at, updated_at) " +
+            "SELECT tc_id, t_id, student_id, contents, details, number, state, created_at, updated_at " +
+            "FROM comment_taxi WHERE t_id IN (:ids)", nativeQuery = true)
+    int copyFrom(@Param("ids") List<Long> ids);
+}
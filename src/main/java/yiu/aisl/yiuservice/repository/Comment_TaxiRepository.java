@@ -1,15 +1,20 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-@Transactional
+@Transactional(readOnly = true)
 public interface Comment_TaxiRepository extends JpaRepository<Comment_Taxi, Long> {
 
     Optional<Comment_Taxi> findByTcId(Long tcId);
@@ -18,11 +23,36 @@ public interface Comment_TaxiRepository extends JpaRepository<Comment_Taxi, Long
 
     List<Comment_Taxi> findByUser(User user);
 
+    // 내 신청글 목록용 => 신청한 모집글과 모집글 작성자까지 한 번에 조회
+    @Query("select c from Comment_Taxi c join fetch c.user join fetch c.taxi p join fetch p.user where c.user = :user")
+    List<Comment_Taxi> findWithTaxiByUser(@Param("user") User user);
+
     List<Comment_Taxi> findByUserAndTaxi(User user, Taxi taxi);
 
+    // 존재 여부만 확인 => 신청글을 불러오지 않음 (idx_comment_taxi_post_user_state)
+    boolean existsByUserAndTaxiAndStateIn(User user, Taxi taxi, Collection<ApplyState> states);
+
+    boolean existsByTaxiAndStateNotIn(Taxi taxi, Collection<ApplyState> states);
+
     List<Comment_Taxi> findByTaxiAndState(Taxi taxi, ApplyState state);
 
     List<Comment_Taxi> findByUserAndState(User user, ApplyState state);
 
+    // 리마인더 수신자 => 글 1개의 상태(state)인 신청자 학번
+    @Query("select c.user.studentId from Comment_Taxi c where c.taxi.tId = :tId and c.state = :state")
+    List<Long> findStudentIdsByTaxiAndState(@Param("tId") Long tId, @Param("state") ApplyState state);
+
+    // 마감 처리할 글(ids)의 신청글 상태 일괄 변경 => 닫힌 상태(to)로만 사용, open_key 도 NULL
+    @Modifying
+    @Transactional
+    @Query("update Comment_Taxi c set c.state = :to, c.openKey = null, c.updatedAt = :now where c.taxi.tId in :ids and c.state = :from")
+    int updateStateByTaxiIds(@Param("ids") List<Long> ids, @Param("from") ApplyState from, @Param("to") ApplyState to, @Param("now") LocalDateTime now);
+
+    // 보관 테이블로 옮긴 모집글(ids)의 신청글 삭제
+    @Modifying
+    @Transactional
+    @Query("delete from Comment_Taxi c where c.taxi.tId in :ids")
+    int deleteAllByTaxiIds(@Param("ids") List<Long> ids);
+
 //    List<Comment_Taxi> findByUserAndStateAndDueAfter(User user, ApplyState state, LocalDateTime currentTime);
 }
@@ -0,0 +1,28 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.DeliveryArchive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface DeliveryArchiveRepository extends JpaRepository<DeliveryArchive, Long> {
+
+    // 상세조회용 => 작성자, 신청글, 신청자를 한 번에 조회
+    @Query("select d from DeliveryArchive d join fetch d.user left join fetch d.comments c left join fetch c.user where d.dId = :dId")
+    Optional<DeliveryArchive> findDetailBydId(@Param("dId") Long dId);
+
+    // delivery => delivery_archive 복사
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO delivery_archive (d_id, student_id, title, contents, due, state, food, food_code, link, location, location_code, created_at, updated_at, view_count, viewer_count, archived_at) " +
+            "SELECT d_id, student_id, title, contents, due, state, food, food_code, link, location, location_code, created_at, updated_at, view_count, viewer_count, :now " +
+            "FROM delivery WHERE d_id IN (:ids)", nativeQuery = true)
+    int copyFrom(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
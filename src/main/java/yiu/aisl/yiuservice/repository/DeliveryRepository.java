@@ -1,21 +1,72 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.DeliveryListResponse;
+import yiu.aisl.yiuservice.dto.ExpiredPost;
+import yiu.aisl.yiuservice.dto.ReminderTarget;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-@Transactional
+@Transactional(readOnly = true)
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
 
     Optional<Delivery> findBydId(Long dId);
 
+    // 상세조회용 => 작성자, 신청글, 신청자를 한 번에 조회
+    @Query("select d from Delivery d join fetch d.user left join fetch d.comments c left join fetch c.user where d.dId = :dId")
+    Optional<Delivery> findDetailBydId(@Param("dId") Long dId);
+
     List<Delivery> findByStateOrderByCreatedAtDesc(PostState state);
 
+    // 목록 조회용 => 목록에 보이는 컬럼만 조회 (TEXT 컬럼 제외)
+    // API 는 PostReadMapper 로 조회, JPA 경로는 성능 비교(ListReadBenchmarkTest) 기준으로 유지
+    String LIST_BY_STATE = "select new yiu.aisl.yiuservice.dto.DeliveryListResponse(d.dId, u.studentId, u.nickname, d.title, " +
+            "substring(d.contents, 1, " + DeliveryListResponse.PREVIEW_LENGTH + "), d.due, d.state, d.food, d.foodCode, d.location, d.locationCode, d.createdAt, d.updatedAt, d.viewCount, d.viewerCount) " +
+            "from Delivery d join d.user u where d.state = :state order by d.createdAt desc";
+
+    @Query(LIST_BY_STATE)
+    List<DeliveryListResponse> findListByState(@Param("state") PostState state);
+
+    // 마감 시간이 지난 글 (id, 작성자) => 바꾸기 전에 잠가서 동시에 도는 마감 처리와 겹치지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Transactional
+    @Query("select new yiu.aisl.yiuservice.dto.ExpiredPost(d.dId, d.user.studentId) from Delivery d where d.state = :from and d.due < :now")
+    List<ExpiredPost> findOverdueForUpdate(@Param("from") PostState from, @Param("now") LocalDateTime now);
+
+    // 마감 처리할 글(ids) 상태 일괄 변경
+    @Modifying
+    @Transactional
+    @Query("update Delivery d set d.state = :to, d.updatedAt = :now where d.dId in :ids and d.state = :from")
+    int updateStateByIds(@Param("ids") List<Long> ids, @Param("from") PostState from, @Param("to") PostState to, @Param("now") LocalDateTime now);
+
+    // 보관 대상 => 상태(states)가 된 뒤 cutoff 이전부터 수정이 없는 글 (id 순으로 pageable 크기만큼)
+    @Query("select d.dId from Delivery d where d.state in :states and d.updatedAt < :cutoff order by d.dId")
+    List<Long> findArchivableIds(@Param("states") List<PostState> states, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 보관 테이블로 옮긴 글 삭제
+    @Modifying
+    @Transactional
+    @Query("delete from Delivery d where d.dId in :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    // 리마인더 대상 => 출발(마감) 전이고 수락된 신청이 있는 글
+    @Query("select new yiu.aisl.yiuservice.dto.ReminderTarget(d.dId, d.due) from Delivery d where d.state <> :deleted and d.due > :now " +
+            "and exists (select 1 from Comment_Delivery c where c.delivery = d and c.state = :accepted)")
+    List<ReminderTarget> findReminderTargets(@Param("now") LocalDateTime now, @Param("deleted") PostState deleted, @Param("accepted") ApplyState accepted);
+
     List<Delivery> findByUser(User user);
 
     List<Delivery> findByUserAndState(User user, PostState state);
@@ -0,0 +1,43 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.DeviceToken;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+    // 같은 기기를 다른 계정에서 쓰던 경우까지 포함
+    List<DeviceToken> findByToken(String token);
+
+    @Query("select d.token from DeviceToken d where d.user.studentId = :studentId")
+    List<String> findTokensByStudentId(@Param("studentId") Long studentId);
+
+    @Query("select d.token from DeviceToken d where d.user.studentId in :studentIds")
+    List<String> findTokensByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    // FCM 에서 등록 해제된 토큰
+    @Modifying
+    @Transactional
+    @Query("delete from DeviceToken d where d.token in :tokens")
+    int deleteAllByTokens(@Param("tokens") Collection<String> tokens);
+
+    // 오래 로그인하지 않은 기기 => 삭제 전 토픽 해제 대상 (기기 토큰, 관심 토픽)
+    @Query("select d.token from DeviceToken d where d.lastSeenAt < :cutoff")
+    List<String> findStaleTokens(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select d.token, i.topic from DeviceToken d, Interest i where i.user = d.user and d.lastSeenAt < :cutoff")
+    List<Object[]> findStaleTopics(@Param("cutoff") LocalDateTime cutoff);
+
+    // 오래 로그인하지 않은 기기
+    @Modifying
+    @Transactional
+    @Query("delete from DeviceToken d where d.lastSeenAt < :cutoff")
+    int deleteStale(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,15 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Interest;
+import yiu.aisl.yiuservice.domain.User;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface InterestRepository extends JpaRepository<Interest, Long> {
+    List<Interest> findByUser(User user);
+
+    long countByUser(User user);
+}
@@ -1,7 +1,7 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.domain.Notice;
 import yiu.aisl.yiuservice.domain.User;
@@ -9,8 +9,8 @@ import yiu.aisl.yiuservice.domain.User;
 import java.util.List;
 import java.util.Optional;
 
-@Transactional
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+@Transactional(readOnly = true)
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeRepositoryCustom {
 
     List<Notice> findAllByOrderByCreatedAtDesc();
 
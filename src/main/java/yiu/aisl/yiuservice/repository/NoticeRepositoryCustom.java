@@ -0,0 +1,11 @@
+package yiu.aisl.yiuservice.repository;
+
+import yiu.aisl.yiuservice.domain.Notice;
+
+import java.util.stream.Stream;
+
+public interface NoticeRepositoryCustom {
+
+    // 목록 스트리밍용 => MySQL 에서는 행 단위로 읽음
+    Stream<Notice> streamAllByOrderByCreatedAtDesc();
+}
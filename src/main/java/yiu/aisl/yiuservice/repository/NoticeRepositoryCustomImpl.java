@@ -0,0 +1,27 @@
+package yiu.aisl.yiuservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import yiu.aisl.yiuservice.domain.Notice;
+
+import java.util.stream.Stream;
+
+// MySQL(Connector/J) 은 fetch size Integer.MIN_VALUE 일 때만 결과를 한꺼번에 받지 않고 행 단위로 읽음
+// 다른 DB(H2 등)는 음수 fetch size 를 거부 => MySQL 방언일 때만 지정
+public class NoticeRepositoryCustomImpl implements NoticeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Notice> streamAllByOrderByCreatedAtDesc() {
+        TypedQuery<Notice> query = entityManager.createQuery("select n from Notice n order by n.createdAt desc", Notice.class);
+        if (entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof MySQLDialect)
+            query.setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE);
+        return query.getResultStream();
+    }
+}
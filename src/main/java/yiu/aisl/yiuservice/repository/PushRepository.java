@@ -1,14 +1,36 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.domain.Push;
 import yiu.aisl.yiuservice.domain.User;
 
 import java.util.List;
 
-@Transactional
+@Transactional(readOnly = true)
 public interface PushRepository extends JpaRepository<Push, Long> {
     List<Push> findByUser(User user);
+
+    // 샤드에 이미 적재된 알림 내역이 있으면 1, 없으면 0 (적재 재시도 전 확인)
+    // 방금 커밋한 행을 봐야 함 => 쓰기 트랜잭션 (primary)
+    @Transactional
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM push WHERE type = :type AND id = :id AND MOD(student_id, :shards) = :shard LIMIT 1) p",
+            nativeQuery = true)
+    long countForShard(@Param("type") int type, @Param("id") Long id, @Param("shards") int shards, @Param("shard") int shard);
+
+    // 학번 % shards == shard 인 유저(학번 순 최대 count 명)에게 알림 내역 1건씩 (공지 등 전체 알림)
+    // push_id => 미리 예약한 구간 [firstId, firstId + count) (IdBlockAllocator)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO push (push_id, student_id, type, id, contents, created_at) " +
+            "SELECT :firstId + u.rn - 1, u.student_id, :type, :id, :contents, NOW() " +
+            "FROM (SELECT student_id, ROW_NUMBER() OVER (ORDER BY student_id) AS rn FROM user WHERE MOD(student_id, :shards) = :shard) u " +
+            "WHERE u.rn <= :count", nativeQuery = true)
+    int insertForShard(@Param("type") int type, @Param("id") Long id, @Param("contents") String contents,
+                       @Param("shards") int shards, @Param("shard") int shard,
+                       @Param("firstId") long firstId, @Param("count") int count);
 }
@@ -1,18 +1,20 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.Report;
-import yiu.aisl.yiuservice.domain.User;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.dto.ReportResponse;
 
-import java.util.List;
-import java.util.Optional;
-
-@Transactional
+@Transactional(readOnly = true)
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
-    List<Report> findAllByOrderByCreatedAtDesc();
-
-    Optional<Report> findByFromIdAndToIdAndTypeAndId(User fromId, User toId, Integer type, Long id);
+    // 관리자 신고 목록 => 신고자/피신고자를 join 해서 DTO로 바로 조회 (count 쿼리 없는 Slice)
+    @Query("select new yiu.aisl.yiuservice.dto.ReportResponse(r.reportId, f.studentId, f.nickname, t.studentId, t.nickname, " +
+            "r.contents, r.type, r.id, r.createdAt, r.updatedAt) " +
+            "from Report r join r.fromId f join r.toId t order by r.createdAt desc")
+    Slice<ReportResponse> findReportSlice(Pageable pageable);
 }
@@ -0,0 +1,28 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.TaxiArchive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public interface TaxiArchiveRepository extends JpaRepository<TaxiArchive, Long> {
+
+    // 상세조회용 => 작성자, 신청글, 신청자를 한 번에 조회
+    @Query("select t from TaxiArchive t join fetch t.user left join fetch t.comments c left join fetch c.user where t.tId = :tId")
+    Optional<TaxiArchive> findDetailBytId(@Param("tId") Long tId);
+
+    // taxi => taxi_archive 복사
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO taxi_archive (t_id, student_id, title, contents, due, state, current, max, start, start_code, end, end_code, created_at, updated_at, view_count, viewer_count, archived_at) " +
+            "SELECT t_id, student_id, title, contents, due, state, current, max, start, start_code, end, end_code, created_at, updated_at, view_count, viewer_count, :now " +
+            "FROM taxi WHERE t_id IN (:ids)", nativeQuery = true)
+    int copyFrom(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
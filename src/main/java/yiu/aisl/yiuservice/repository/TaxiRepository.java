@@ -1,22 +1,73 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.Delivery;
 import yiu.aisl.yiuservice.domain.Taxi;
 import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.ExpiredPost;
+import yiu.aisl.yiuservice.dto.ReminderTarget;
+import yiu.aisl.yiuservice.dto.TaxiListResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-@Transactional
+@Transactional(readOnly = true)
 public interface TaxiRepository extends JpaRepository<Taxi, Long> {
 
     Optional<Taxi> findBytId(Long tId);
 
+    // 상세조회용 => 작성자, 신청글, 신청자를 한 번에 조회
+    @Query("select t from Taxi t join fetch t.user left join fetch t.comments c left join fetch c.user where t.tId = :tId")
+    Optional<Taxi> findDetailBytId(@Param("tId") Long tId);
+
     List<Taxi> findByStateOrderByCreatedAtDesc(PostState state);
 
+    // 목록 조회용 => 목록에 보이는 컬럼만 조회 (TEXT 컬럼 제외)
+    // API 는 PostReadMapper 로 조회, JPA 경로는 성능 비교(ListReadBenchmarkTest) 기준으로 유지
+    String LIST_BY_STATE = "select new yiu.aisl.yiuservice.dto.TaxiListResponse(t.tId, u.studentId, u.nickname, t.title, " +
+            "substring(t.contents, 1, " + TaxiListResponse.PREVIEW_LENGTH + "), t.due, t.state, t.start, t.startCode, t.end, t.endCode, t.current, t.max, t.createdAt, t.updatedAt, t.viewCount, t.viewerCount) " +
+            "from Taxi t join t.user u where t.state = :state order by t.createdAt desc";
+
+    @Query(LIST_BY_STATE)
+    List<TaxiListResponse> findListByState(@Param("state") PostState state);
+
+    // 마감 시간이 지난 글 (id, 작성자) => 바꾸기 전에 잠가서 동시에 도는 마감 처리와 겹치지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Transactional
+    @Query("select new yiu.aisl.yiuservice.dto.ExpiredPost(t.tId, t.user.studentId) from Taxi t where t.state = :from and t.due < :now")
+    List<ExpiredPost> findOverdueForUpdate(@Param("from") PostState from, @Param("now") LocalDateTime now);
+
+    // 마감 처리할 글(ids) 상태 일괄 변경
+    @Modifying
+    @Transactional
+    @Query("update Taxi t set t.state = :to, t.updatedAt = :now where t.tId in :ids and t.state = :from")
+    int updateStateByIds(@Param("ids") List<Long> ids, @Param("from") PostState from, @Param("to") PostState to, @Param("now") LocalDateTime now);
+
+    // 보관 대상 => 상태(states)가 된 뒤 cutoff 이전부터 수정이 없는 글 (id 순으로 pageable 크기만큼)
+    @Query("select t.tId from Taxi t where t.state in :states and t.updatedAt < :cutoff order by t.tId")
+    List<Long> findArchivableIds(@Param("states") List<PostState> states, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 보관 테이블로 옮긴 글 삭제
+    @Modifying
+    @Transactional
+    @Query("delete from Taxi t where t.tId in :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    // 리마인더 대상 => 출발(마감) 전이고 수락된 신청이 있는 글
+    @Query("select new yiu.aisl.yiuservice.dto.ReminderTarget(t.tId, t.due) from Taxi t where t.state <> :deleted and t.due > :now " +
+            "and exists (select 1 from Comment_Taxi c where c.taxi = t and c.state = :accepted)")
+    List<ReminderTarget> findReminderTargets(@Param("now") LocalDateTime now, @Param("deleted") PostState deleted, @Param("accepted") ApplyState accepted);
+
     List<Taxi> findByUser(User user);
 
     List<Taxi> findByUserAndState(User user, PostState state);
@@ -0,0 +1,27 @@
+package yiu.aisl.yiuservice.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.UserReportStats;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface UserReportStatsRepository extends JpaRepository<UserReportStats, Long> {
+
+    // (신고 당한 유저, 유형) 집계 +1 => 행이 없으면 생성
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO user_report_stats (student_id, type, report_count, updated_at) VALUES (:studentId, :type, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE report_count = report_count + 1, updated_at = NOW()", nativeQuery = true)
+    void increment(@Param("studentId") Long studentId, @Param("type") Integer type);
+
+    Slice<UserReportStats> findAllByOrderByReportCountDesc(Pageable pageable);
+
+    List<UserReportStats> findByStudentId(Long studentId);
+}
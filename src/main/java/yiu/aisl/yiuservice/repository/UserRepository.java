@@ -1,16 +1,30 @@
 package yiu.aisl.yiuservice.repository;
 
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.User;
 
+import java.util.List;
 import java.util.Optional;
 
-@Transactional
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByStudentId(Long studentId);
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByNickname(String nickname);
 
+    // 존재 여부만 확인 => 엔티티를 불러오지 않음
+    boolean existsByStudentId(Long studentId);
+
+    boolean existsByNickname(String nickname);
+
     Optional<User> findByRefreshToken(String refreshToken);
+
+    @Query("select u.nickname from User u")
+    List<String> findAllNicknames();
+
+    // 학번 % shards == shard 인 유저 수 (알림 내역 샤드별 적재)
+    @Query(value = "SELECT COUNT(*) FROM user WHERE MOD(student_id, :shards) = :shard", nativeQuery = true)
+    long countByShard(@Param("shards") int shards, @Param("shard") int shard);
 }
\ No newline at end of file
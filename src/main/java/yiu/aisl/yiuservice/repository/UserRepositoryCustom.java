@@ -0,0 +1,11 @@
+package yiu.aisl.yiuservice.repository;
+
+import yiu.aisl.yiuservice.domain.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // 학번(pk) 조회 => 영속성 컨텍스트(1차 캐시)에 있으면 SQL 없이 반환
+    Optional<User> findByStudentId(Long studentId);
+}
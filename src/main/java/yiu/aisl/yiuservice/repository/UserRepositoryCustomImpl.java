@@ -0,0 +1,34 @@
+package yiu.aisl.yiuservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import yiu.aisl.yiuservice.domain.User;
+
+import java.util.Optional;
+
+// 요청 하나 = EntityManager 하나 (OpenEntityManagerInViewConfig) => 인증 필터가 불러온 User 를 서비스에서 그대로 씀
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByStudentId(Long studentId) {
+        if (studentId == null) return Optional.empty();
+        User user = entityManager.find(User.class, studentId);
+
+        // 읽기 전용 트랜잭션(인증 필터 등)에서 먼저 불러온 User 는 읽기 전용 => 쓰기 트랜잭션에서 꺼내면 변경 감지 대상으로
+        // 그 User 는 복제본에서 읽었을 수 있음 (복제 지연) => primary 에서 다시 읽어서 오래된 값으로 덮어쓰지 않도록
+        if (user != null && TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Session session = entityManager.unwrap(Session.class);
+            if (session.isReadOnly(user)) {
+                session.setReadOnly(user, false);
+                entityManager.refresh(user);
+            }
+        }
+        return Optional.ofNullable(user);
+    }
+}
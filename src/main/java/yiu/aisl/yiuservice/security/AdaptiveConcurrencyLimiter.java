@@ -0,0 +1,99 @@
+package yiu.aisl.yiuservice.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시 처리 요청 수 한도 => 응답 시간을 보고 스스로 조정 (gradient + AIMD)
+// 장기 평균 응답 시간 / 최근 응답 시간 = gradient => 최근이 느려지면(DB 지연 등) 한도를 줄이고, 그대로면 sqrt(한도)만큼 늘림
+// 5xx, 예외 => 한도를 backoff-ratio 배로 바로 줄임
+// 우선순위 => CRITICAL(작성, 신청, 인증)은 항상 통과, NORMAL 은 한도까지, BULK(목록)는 한도의 bulk-share 까지
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority { CRITICAL, NORMAL, BULK }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double bulkShare;
+    private final double backoffRatio;
+    // 최근 응답 시간이 장기 평균의 tolerance 배까지는 느려져도 줄이지 않음
+    private final double tolerance;
+    private final double smoothing;
+    private final int shortWindow;
+    private final int longWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    // 응답 시간 지수 이동 평균 (ns)
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(@Value("${concurrency.limit.initial:20}") int initialLimit,
+                                      @Value("${concurrency.limit.min:4}") int minLimit,
+                                      @Value("${concurrency.limit.max:200}") int maxLimit,
+                                      @Value("${concurrency.limit.bulk-share:0.6}") double bulkShare,
+                                      @Value("${concurrency.limit.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${concurrency.limit.tolerance:1.5}") double tolerance,
+                                      @Value("${concurrency.limit.smoothing:0.2}") double smoothing,
+                                      @Value("${concurrency.limit.short-window:10}") int shortWindow,
+                                      @Value("${concurrency.limit.long-window:600}") int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.bulkShare = bulkShare;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.shortWindow = shortWindow;
+        this.longWindow = longWindow;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // 통과 => true (끝나면 release 필수) / 한도 초과 => false
+    public boolean tryAcquire(Priority priority) {
+        if (priority == Priority.CRITICAL) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        int cap = priority == Priority.BULK ? Math.max(1, (int) (limit * bulkShare)) : (int) limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    // 처리 끝 => 응답 시간(rttNanos), 실패 여부로 한도 조정
+    public void release(long rttNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, failed, current);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, boolean failed, int current) {
+        if (failed) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            return;
+        }
+
+        shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / shortWindow;
+        longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) / longWindow;
+        // 최근이 장기 평균보다 훨씬 빠름 (부하가 빠진 뒤) => 장기 평균이 빨리 따라오도록
+        if (longRtt > shortRtt * 2) longRtt *= 0.95;
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        // 한도의 절반도 쓰지 않는 중 => 늘릴 근거 없음 (줄이는 건 그대로)
+        if (newLimit > limit && current < limit / 2) return;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + newLimit * smoothing));
+    }
+}
@@ -0,0 +1,115 @@
+package yiu.aisl.yiuservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.exception.ErrorResponse;
+import yiu.aisl.yiuservice.security.AdaptiveConcurrencyLimiter.Priority;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 동시 처리 한도 (AdaptiveConcurrencyLimiter) => 넘으면 컨트롤러, DB 까지 가지 않고 바로 503 + Retry-After
+// JWT 인증 필터 앞 => 버리는 요청은 토큰 검증도 하지 않음
+// 스트리밍 응답(비동기) => 응답이 끝날 때 반환
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    // 목록 조회 (GET) => 가장 먼저 버림
+    private final Set<String> bulkPaths;
+    // POST 지만 조회인 경로
+    private final Set<String> readPaths;
+    private final long retryAfterSeconds;
+
+    // 상태 확인은 제한하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "/ready".equals(request.getServletPath()) || "/test".equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // 503 - 한도 초과
+        if (!limiter.tryAcquire(priority(request))) {
+            response.setStatus(ErrorCode.SERVICE_UNAVAILABLE.getStatus());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setCharacterEncoding("utf-8");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getWriter(), new ErrorResponse(ErrorCode.SERVICE_UNAVAILABLE));
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(start, released, response));
+            } else {
+                release(start, released, failed || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    private Priority priority(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if ("GET".equals(request.getMethod())) {
+            return bulkPaths.contains(path) ? Priority.BULK : Priority.NORMAL;
+        }
+        return readPaths.contains(path) ? Priority.NORMAL : Priority.CRITICAL;
+    }
+
+    private void release(long start, AtomicBoolean released, boolean failed) {
+        if (released.compareAndSet(false, true)) limiter.release(System.nanoTime() - start, failed);
+    }
+
+    private class ReleaseOnComplete implements AsyncListener {
+        private final long start;
+        private final AtomicBoolean released;
+        private final HttpServletResponse response;
+
+        private ReleaseOnComplete(long start, AtomicBoolean released, HttpServletResponse response) {
+            this.start = start;
+            this.released = released;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(start, released, response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(start, released, true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(start, released, true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
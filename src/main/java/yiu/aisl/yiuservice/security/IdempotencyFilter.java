@@ -0,0 +1,150 @@
+package yiu.aisl.yiuservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import yiu.aisl.yiuservice.config.CustomUserDetails;
+import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.exception.ErrorResponse;
+import yiu.aisl.yiuservice.security.IdempotencyStore.StoredResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 작성/신청 요청 재전송 방지 => Idempotency-Key 헤더가 있는 POST 만 처리
+// 같은 유저, 같은 경로, 같은 키로 다시 오면 실행하지 않고 저장된 응답을 그대로 반환
+// 5xx 응답, Redis 장애 => 저장하지 않음 (다시 요청하면 다시 실행)
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Set<String> paths;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !paths.contains(request.getServletPath())
+                || request.getHeader(HEADER_IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // 비로그인 => 뒤의 인가 단계에서 401
+        Long studentId = currentStudentId();
+        if (studentId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 400 - 키 길이 초과
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INSUFFICIENT_DATA);
+            return;
+        }
+
+        String key = studentId + ":" + request.getServletPath() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        boolean first;
+        try {
+            first = idempotencyStore.begin(key, fingerprint);
+        } catch (Exception e) {
+            log.warn("idempotency 확인 실패 => 그대로 처리: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!first) {
+            StoredResponse stored = idempotencyStore.find(key);
+            // 처리 중 표시가 그사이 만료됨 => 그대로 처리
+            if (stored == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            // 409 - 같은 키로 다른 내용을 보냄 OR 첫 요청이 아직 처리 중
+            if (!stored.fingerprint().equals(fingerprint) || stored.pending()) {
+                writeError(response, ErrorCode.CONFLICT);
+                return;
+            }
+            replay(response, stored);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 500) {
+                idempotencyStore.complete(key, new StoredResponse(fingerprint, wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) idempotencyStore.abort(key);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(HEADER_REPLAYED, "true");
+        response.setCharacterEncoding("utf-8");
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        if (stored.body() != null) response.getWriter().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setCharacterEncoding("utf-8");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), new ErrorResponse(errorCode));
+    }
+
+    // 요청 파라미터 해시 => 같은 키로 다른 요청을 보낸 경우 구분
+    private static String fingerprint(HttpServletRequest request) {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, String[]> entry : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            builder.append(entry.getKey()).append('=').append(String.join(",", entry.getValue())).append('&');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Long currentStudentId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getStudentId();
+        }
+        return null;
+    }
+}
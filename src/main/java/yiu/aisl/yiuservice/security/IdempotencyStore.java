@@ -0,0 +1,87 @@
+package yiu.aisl.yiuservice.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Idempotency-Key 별 처리 상태, 응답 저장소 (Redis)
+// 처음 요청 => 처리 중 표시(lock-seconds) => 처리가 끝나면 응답으로 교체(ttl-seconds)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String PREFIX = "idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 저장된 응답 유지 시간 => 클라이언트 재시도 간격보다 충분히 길게
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 처리 중 표시 유지 시간 => 서버가 처리 중 죽어도 이 시간이 지나면 다시 요청 가능
+    @Value("${idempotency.lock-seconds:30}")
+    private long lockSeconds;
+
+    // 처음 들어온 키 => 처리 중으로 표시하고 true
+    public boolean begin(String key, String fingerprint) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(PREFIX + key, write(StoredResponse.pending(fingerprint)), Duration.ofSeconds(lockSeconds));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    // 저장된 처리 상태 => 없으면(만료) null
+    public StoredResponse find(String key) {
+        String value = redisTemplate.opsForValue().get(PREFIX + key);
+        if (value == null) return null;
+        try {
+            return objectMapper.readValue(value, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    public void complete(String key, StoredResponse response) {
+        try {
+            redisTemplate.opsForValue().set(PREFIX + key, write(response), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("idempotency 응답 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 처리 실패 => 표시 삭제, 같은 키로 다시 요청 가능
+    public void abort(String key) {
+        try {
+            redisTemplate.delete(PREFIX + key);
+        } catch (Exception e) {
+            log.warn("idempotency 표시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private String write(StoredResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // status 0 => 처리 중
+    public record StoredResponse(String fingerprint, int status, String contentType, String body) {
+
+        static StoredResponse pending(String fingerprint) {
+            return new StoredResponse(fingerprint, 0, null, null);
+        }
+
+        public boolean pending() {
+            return status == 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package yiu.aisl.yiuservice.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +15,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter{
     private final TokenProvider tokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
@@ -29,10 +31,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter{
         // 가져온 값에서 접두사 제거
         String token = getAccessToken(authorizationHeader);
 
-        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
+        // 가져온 토큰이 유효하고 폐기되지 않았으면 인증 정보 설정
         // => 시큐리티 컨텍스트에 인증 정보를 설정
-        if(token != null && tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        Claims claims = token != null ? tokenProvider.getValidClaims(token) : null;
+        if(claims != null && !tokenRevocationStore.isRevoked(claims, token)) {
+            Authentication authentication = tokenProvider.getAuthentication(claims, token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
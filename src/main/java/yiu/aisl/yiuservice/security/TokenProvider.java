@@ -24,11 +24,15 @@ import java.security.Key;
 import java.time.Duration;
 import java.util.Date;
 import java.util.Set;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
 public class TokenProvider {
 
+    // 발급 시각 (epoch millis) => iat 는 초 단위라 같은 초의 비밀번호 변경 전후를 구분 못 함 (TokenRevocationStore)
+    public static final String ISSUED_AT_MS = "iatMs";
+
     private final JwtProperties jwtProperties;
 
     @Value("${jwt.secret.key}")
@@ -63,7 +67,10 @@ public class TokenProvider {
 
         JwtBuilder jwtBuilder = Jwts.builder()
                 .setIssuer(jwtProperties.getIssuer())
+                // jti => 로그아웃 시 이 토큰만 폐기 (TokenRevocationStore)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
+                .claim(ISSUED_AT_MS, now.getTime())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidTime))
                 .setSubject(user.getNickname())
                 .claim("studentId", user.getStudentId())
@@ -86,6 +93,11 @@ public class TokenProvider {
         return new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
     }
 
+    public Authentication getAuthentication(Claims claims, String token) {
+        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByStudentId(claims.get("studentId", Long.class));
+        return new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
+    }
+
     // 토큰에 담겨있는 유저 account 획득
     public Long getStudentId(String token) {
         Claims claims = getClaims(token);
@@ -128,6 +140,20 @@ public class TokenProvider {
         }
     }
 
+    // 서명, 만료 검증 + 클레임 => 유효하지 않으면 null (한 번만 파싱)
+    public Claims getValidClaims(String token) {
+        try {
+            Claims claims = getClaims(token);
+            return claims.getExpiration().before(new Date()) ? null : claims;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public long getAccessTokenValidTime() {
+        return accessTokenValidTime;
+    }
+
     private Claims getClaims(String token) {
         return Jwts.parser() // 클레임 조회
                 .setSigningKey(secretKey)
@@ -0,0 +1,166 @@
+package yiu.aisl.yiuservice.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.util.BloomFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+// 로그아웃, 비밀번호 변경으로 폐기된 JWT
+// Redis => 폐기 목록 원본 (토큰 남은 수명만큼 유지), 서버별 Bloom filter => "확실히 폐기 안 됨"이면 Redis 조회 생략
+// 폐기 => Redis 기록 + pub/sub 발행 => 모든 서버가 자기 필터에 추가 (TokenRevocationListenerConfig)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    public static final String CHANNEL = "token-revocation";
+    private static final String PREFIX = "revoked:";
+    // 토큰 하나 (jti, 없으면 토큰 해시)
+    private static final String TOKEN = "jti:";
+    // 유저의 특정 시각 이전 발급 토큰 전체 => 값 = 기준 시각(epoch millis)
+    private static final String USER = "user:";
+    // 이보다 작은 기준 시각 => 이전 버전이 epoch seconds 로 기록한 값
+    private static final long SECONDS_CUTOFF_LIMIT = 100_000_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenProvider tokenProvider;
+
+    @Value("${jwt.revocation.filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 로딩 전에는 null => 항상 Redis 조회
+    private volatile BloomFilter filter;
+    // 로딩 중 들어온 폐기도 빠지지 않도록 로딩 중인 필터에도 기록
+    private volatile BloomFilter loading;
+
+    // 시작할 때, 그리고 주기적으로 Redis 에서 다시 적재 => 만료된 항목이 필터에서 빠짐 (Bloom filter 는 삭제 불가)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval-ms:600000}", fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter loaded = new BloomFilter(expectedInsertions, falsePositiveRate);
+        loading = loaded;
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                load(connection, loaded);
+                return null;
+            });
+            filter = loaded;
+        }
+        catch (Exception e) {
+            // Redis 장애 => 이전 필터 유지 (처음이면 null => 항상 Redis 조회), 일부만 적재된 필터는 버림, 다음 주기에 다시
+            log.warn("토큰 폐기 목록 적재 실패: {}", e.getMessage());
+        }
+        finally {
+            loading = null;
+        }
+    }
+
+    private void load(RedisConnection connection, BloomFilter loaded) {
+        ScanOptions options = ScanOptions.scanOptions().match(PREFIX + "*").count(1000).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            cursor.forEachRemaining(key -> loaded.put(new String(key, StandardCharsets.UTF_8).substring(PREFIX.length())));
+        }
+    }
+
+    // 로그아웃 => 이 토큰만 폐기 (남은 수명 동안)
+    public void revoke(Claims claims, String token) {
+        long ttl = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (ttl <= 0) return;
+        String key = TOKEN + tokenId(claims, token);
+        redisTemplate.opsForValue().set(PREFIX + key, "1", Duration.ofMillis(ttl));
+        publish(key);
+    }
+
+    // 비밀번호 변경 => 지금까지 발급된 이 유저의 토큰 전체 폐기 (access token 수명 동안)
+    public void revokeAll(Long studentId) {
+        String key = USER + studentId;
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(PREFIX + key, String.valueOf(now), Duration.ofMillis(tokenProvider.getAccessTokenValidTime()));
+        publish(key);
+    }
+
+    // 필터에서 걸린 경우만 Redis 조회
+    public boolean isRevoked(Claims claims, String token) {
+        String tokenKey = TOKEN + tokenId(claims, token);
+        String userKey = USER + claims.get("studentId", Long.class);
+        BloomFilter current = filter;
+        boolean tokenHit = current == null || current.mightContain(tokenKey);
+        boolean userHit = current == null || current.mightContain(userKey);
+        if (!tokenHit && !userHit) return false;
+
+        try {
+            if (tokenHit && Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + tokenKey))) return true;
+            if (userHit) {
+                String revokedAt = redisTemplate.opsForValue().get(PREFIX + userKey);
+                return revokedAt != null && issuedAtMillis(claims) <= cutoffMillis(revokedAt);
+            }
+            return false;
+        }
+        catch (Exception e) {
+            log.warn("토큰 폐기 여부 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // pub/sub 수신 (다른 서버, 자기 자신 포함)
+    public void onRevoked(String key) {
+        BloomFilter current = filter;
+        if (current != null) current.put(key);
+        BloomFilter pending = loading;
+        if (pending != null) pending.put(key);
+    }
+
+    private void publish(String key) {
+        onRevoked(key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, key);
+        }
+        catch (Exception e) {
+            // 다른 서버는 다음 적재 때 반영
+            log.warn("토큰 폐기 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // 발급 시각 (ms) => iatMs 가 없는 (이전에 발급된) 토큰은 iat (초 단위, 내림) => 같은 초의 변경 전 토큰은 폐기 쪽으로
+    private static long issuedAtMillis(Claims claims) {
+        Long issuedAt = claims.get(TokenProvider.ISSUED_AT_MS, Long.class);
+        return issuedAt != null ? issuedAt : claims.getIssuedAt().getTime();
+    }
+
+    // 이전 버전이 초 단위로 기록한 기준 시각 => 그 초의 끝까지 폐기 (access token 수명이 지나면 남지 않음)
+    private static long cutoffMillis(String revokedAt) {
+        long cutoff = Long.parseLong(revokedAt);
+        return cutoff < SECONDS_CUTOFF_LIMIT ? cutoff * 1000 + 999 : cutoff;
+    }
+
+    // jti 가 없는 (이전에 발급된) 토큰 => 토큰 SHA-256
+    private static String tokenId(Claims claims, String token) {
+        if (claims.getId() != null) return claims.getId();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+// 보관 작업 스케줄 (기본 매일 04:00) => 대상이 없을 때까지 청크 단위로 반복
+// 모든 서버에서 같은 시각에 실행됨 => 임대(ClusterLease)를 얻은 서버 하나만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveScheduler {
+
+    private static final String LEASE = "archive";
+
+    private final ArchiveService archiveService;
+    private final ClusterLease clusterLease;
+
+    // 마감/삭제 후 보관까지 기간(일)
+    @Value("${archive.after-days:30}")
+    private long afterDays;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    // 임대 유지 시간 => 한 번의 보관 작업보다 충분히 길게
+    @Value("${archive.lease-seconds:3600}")
+    private long leaseSeconds;
+
+    @Scheduled(cron = "${archive.cron:0 0 4 * * *}")
+    public void archive() {
+        String owner = clusterLease.acquire(LEASE, Duration.ofSeconds(leaseSeconds));
+        if (owner == null) {
+            log.info("보관 생략 => 다른 서버에서 실행 중");
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        try {
+            int deliveries = drain(() -> archiveService.archiveDelivery(cutoff, chunkSize));
+            int taxis = drain(() -> archiveService.archiveTaxi(cutoff, chunkSize));
+            log.info("보관 완료 => 배달 {}건, 택시 {}건 (기준: {})", deliveries, taxis, cutoff);
+        }
+        catch (Exception e) {
+            // 실패한 청크는 롤백 => 다음 실행 때 다시 대상이 됨
+            log.warn("보관 실패: {}", e.getMessage());
+        }
+        finally {
+            clusterLease.release(LEASE, owner);
+        }
+    }
+
+    private int drain(IntSupplier chunk) {
+        int total = 0;
+        int moved;
+        do {
+            moved = chunk.getAsInt();
+            total += moved;
+        } while (moved == chunkSize);
+        return total;
+    }
+}
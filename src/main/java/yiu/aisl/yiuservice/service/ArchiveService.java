@@ -0,0 +1,57 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.repository.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 마감/삭제된 지 오래된 모집글 => 신청글과 함께 보관 테이블(*_archive)로 이동
+// 본 테이블(delivery, taxi, comment_*)은 진행 중인 글 위주로 유지 => 목록 조회가 과거 글을 읽지 않음
+// 청크 하나 = 트랜잭션 하나 (복사 => 신청글 삭제 => 모집글 삭제), 락과 undo 로그를 짧게 유지
+@Service
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private static final List<PostState> ARCHIVABLE = List.of(PostState.DELETED, PostState.FINISHED);
+
+    private final DeliveryRepository deliveryRepository;
+    private final Comment_DeliveryRepository comment_deliveryRepository;
+    private final DeliveryArchiveRepository deliveryArchiveRepository;
+    private final Comment_DeliveryArchiveRepository comment_deliveryArchiveRepository;
+
+    private final TaxiRepository taxiRepository;
+    private final Comment_TaxiRepository comment_taxiRepository;
+    private final TaxiArchiveRepository taxiArchiveRepository;
+    private final Comment_TaxiArchiveRepository comment_taxiArchiveRepository;
+
+    // 배달 모집글 최대 chunkSize 개 보관 => 옮긴 글 수
+    public int archiveDelivery(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = deliveryRepository.findArchivableIds(ARCHIVABLE, cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) return 0;
+
+        deliveryArchiveRepository.copyFrom(ids, LocalDateTime.now());
+        comment_deliveryArchiveRepository.copyFrom(ids);
+        comment_deliveryRepository.deleteAllByDeliveryIds(ids);
+        deliveryRepository.deleteAllByIds(ids);
+        return ids.size();
+    }
+
+    // 택시 모집글 최대 chunkSize 개 보관 => 옮긴 글 수
+    public int archiveTaxi(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = taxiRepository.findArchivableIds(ARCHIVABLE, cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) return 0;
+
+        taxiArchiveRepository.copyFrom(ids, LocalDateTime.now());
+        comment_taxiArchiveRepository.copyFrom(ids);
+        comment_taxiRepository.deleteAllByTaxiIds(ids);
+        taxiRepository.deleteAllByIds(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,50 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 여러 서버 중 한 곳만 실행할 작업의 임대(lease) => Redis SET NX EX
+// 서버가 작업 중 죽어도 ttl 이 지나면 다른 서버가 다시 얻을 수 있음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLease {
+
+    private static final String PREFIX = "lease:";
+    // 내가 얻은 임대일 때만 삭제 (ttl 이 지나 다른 서버가 얻은 임대는 그대로)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 얻으면 소유 토큰, 다른 서버가 가지고 있거나 Redis 장애 => null (실행하지 않음)
+    public String acquire(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(PREFIX + name, owner, ttl);
+            return Boolean.TRUE.equals(acquired) ? owner : null;
+        }
+        catch (Exception e) {
+            log.warn("임대 획득 실패 ({}): {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    public void release(String name, String owner) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(PREFIX + name), owner);
+        }
+        catch (Exception e) {
+            // ttl 이 지나면 풀림
+            log.warn("임대 반환 실패 ({}): {}", name, e.getMessage());
+        }
+    }
+}
@@ -1,26 +1,29 @@
 package yiu.aisl.yiuservice.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.apache.catalina.security.SecurityUtil;
 import org.aspectj.weaver.ast.Not;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
 import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.DeliveryListResponse;
 import yiu.aisl.yiuservice.dto.DeliveryRequest;
 import yiu.aisl.yiuservice.dto.DeliveryResponse;
+import yiu.aisl.yiuservice.event.*;
 import yiu.aisl.yiuservice.exception.CustomException;
 import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
 import yiu.aisl.yiuservice.repository.Comment_DeliveryRepository;
+import yiu.aisl.yiuservice.repository.DeliveryArchiveRepository;
 import yiu.aisl.yiuservice.repository.DeliveryRepository;
-import yiu.aisl.yiuservice.repository.PushRepository;
 import yiu.aisl.yiuservice.repository.UserRepository;
 import yiu.aisl.yiuservice.security.TokenProvider;
 
@@ -30,71 +33,72 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class DeliveryService {
 
-    private final FirebaseMessaging firebaseMessaging;
     private final DeliveryRepository deliveryRepository;
     private final Comment_DeliveryRepository comment_deliveryRepository;
+    private final DeliveryArchiveRepository deliveryArchiveRepository;
     private final UserRepository userRepository;
-    private final PushRepository pushRepository;
+    private final ListStreamWriter listStreamWriter;
+    private final PostReadMapper postReadMapper;
+    private final ViewCounter viewCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 배달모집글 조회 [all]
-    @Transactional
-    public List<DeliveryResponse> getList() throws Exception {
-        try {
-            List<Delivery> listActive = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.ACTIVE);
-            List<Delivery> listDeleted = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.DELETED);
-            List<Delivery> listFinished = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.FINISHED);
-
-            // 현재 시간과 비교하여 due가 이미 지났다면 상태를 모두 FINISHED로 변경
-            LocalDateTime currentTime = LocalDateTime.now();
-            listFinished.addAll(listActive.stream()
-                    .filter(delivery -> delivery.getDue().isBefore(currentTime))
-                    .map(delivery -> {
-                        delivery.setState(PostState.FINISHED);
-
-                        waitToFinish(delivery); // 대기 신청글 => 마감처리
-
-                        return delivery;
-                    })
-                    .collect(Collectors.toList()));
-
-            List<DeliveryResponse> getListDTO = new ArrayList<>();
-            getListDTO.addAll(listActive.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
-            getListDTO.addAll(listDeleted.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
-            getListDTO.addAll(listFinished.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
+    // 목록은 상태별(ACTIVE → DELETED → FINISHED)로 이어서 스트리밍 => 조회만 (마감 처리는 ExpireScheduler)
+    // 마감 시간이 지났지만 아직 ACTIVE 인 글 => FINISHED 목록에 마감 상태로
+    @Transactional(readOnly = true)
+    public StreamingResponseBody getList(MediaType format) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<Supplier<Stream<DeliveryListResponse>>> sources = List.of(
+                () -> ListStreamWriter.stream(postReadMapper.cursorOpenDeliveryList(PostState.ACTIVE, now)),
+                () -> ListStreamWriter.stream(postReadMapper.cursorDeliveryListByState(PostState.DELETED)),
+                () -> ListStreamWriter.stream(postReadMapper.cursorClosedDeliveryList(PostState.FINISHED, PostState.ACTIVE, now))
+                        .map(DeliveryService::closed)
+        );
+        return listStreamWriter.write(sources, Function.identity(), format);
+    }
 
-            return getListDTO;
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+    // 마감 목록의 행 => 마감 처리 전(ACTIVE)이어도 FINISHED 로 응답
+    static DeliveryListResponse closed(DeliveryListResponse delivery) {
+        delivery.setState(PostState.FINISHED);
+        return delivery;
     }
 
     // 배달모집글 상세조회 [all]
-    public DeliveryResponse getDetail(DeliveryRequest.DetailDTO request) throws Exception {
+    @Transactional(readOnly = true)
+    public DeliveryResponse getDetail(DeliveryRequest.DetailDTO request, String viewer) throws Exception {
         // 400 - 데이터 없음
         if(request.getDId().describeConstable().isEmpty()) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
-        // 404 - 글 존재하지 않음
-        Delivery delivery = deliveryRepository.findBydId(request.getDId()).orElseThrow(() -> {
-            throw new CustomException(ErrorCode.NOT_EXIST);
-        });
+        // 본 테이블에 없으면 보관된 글 조회
+        Delivery delivery = deliveryRepository.findDetailBydId(request.getDId()).orElse(null);
+        if (delivery == null) return getArchivedDetail(request.getDId());
 
-        // 현재 시간과 비교하여 due가 이미 지났다면 상태를 FINISHED로 변경
+        // 현재 시간과 비교하여 due가 이미 지났다면 FINISHED 로 응답
+        // 조회는 읽기 전용 트랜잭션 => DB 반영은 ExpireScheduler, 여기서는 응답에만 반영 (읽기 전용 세션이라 flush 안 됨)
         LocalDateTime currentTime = LocalDateTime.now();
-        if (delivery.getDue().isBefore(currentTime)) {
+        if (delivery.getState().equals(PostState.ACTIVE) && delivery.getDue().isBefore(currentTime)) {
             delivery.setState(PostState.FINISHED);
-            waitToFinish(delivery); // 대기 신청글 => 마감처리
+            delivery.getComments().stream()
+                    .filter(comment -> comment.getState().equals(ApplyState.WAITING))
+                    .forEach(comment -> comment.setState(ApplyState.FINISHED));
         }
 
         // 409 - 삭제된 글
         if(delivery.getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
 
+        // 조회 수 => Redis 에만 기록 (ViewCounter 가 주기적으로 반영)
+        viewCounter.record(EntityCode.DELIVERY, delivery.getDId(), viewer);
+
         try {
             DeliveryResponse response = DeliveryResponse.GetDeliveryDetailDTO(delivery);
             return response;
@@ -105,6 +109,19 @@ public class DeliveryService {
     }
 
 
+    // 보관된 배달모집글 상세조회 => 마감/삭제 후 상태가 바뀌지 않으므로 조회만
+    private DeliveryResponse getArchivedDetail(Long dId) {
+        // 404 - 글 존재하지 않음
+        DeliveryArchive delivery = deliveryArchiveRepository.findDetailBydId(dId).orElseThrow(() -> {
+            throw new CustomException(ErrorCode.NOT_EXIST);
+        });
+
+        // 409 - 삭제된 글
+        if(delivery.getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
+
+        return DeliveryResponse.GetDeliveryDetailDTO(delivery);
+    }
+
     // 배달모집글 작성 [writer]
     @Transactional
     public Boolean create(Long studentId, DeliveryRequest.CreateDTO request) throws Exception{
@@ -138,6 +155,10 @@ public class DeliveryService {
                     .state(request.getState())
                     .build();
             deliveryRepository.save(delivery);
+
+            // 커밋 후 이벤트 버스로 (관심 토픽 알림 등)
+            eventPublisher.publishEvent(new PostCreatedEvent(EntityCode.DELIVERY, delivery.getDId(), studentId,
+                    delivery.getTitle(), delivery.getFoodCode(), null, null));
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -171,10 +192,13 @@ public class DeliveryService {
 
         // 403 - 권한 없음
         Delivery existingDelivery = optDelivery.get();
-        if(!existingDelivery.getUser().equals(user)) {
+        if(!existingDelivery.getUser().getStudentId().equals(studentId)) {
             throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
         }
 
+        // 리마인더 시각 변경용
+        boolean dueChanged = !request.getDue().equals(existingDelivery.getDue());
+
         try {
             existingDelivery.setTitle(request.getTitle());
             existingDelivery.setContents(request.getContents());
@@ -186,6 +210,8 @@ public class DeliveryService {
             existingDelivery.setLink(request.getLink());
             existingDelivery.setState(request.getPostState());
             deliveryRepository.save(existingDelivery);
+            if(dueChanged)
+                eventPublisher.publishEvent(new PostDueChangedEvent(EntityCode.DELIVERY, existingDelivery.getDId(), existingDelivery.getDue()));
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -202,23 +228,17 @@ public class DeliveryService {
         // 유저 확인 404 포함
         User user = findByStudentId(studentId);
 
-        Delivery delivery = findByDId(request.getDId());
-        Optional<Delivery> optDelivery = deliveryRepository.findBydId(request.getDId());
-        Optional<Comment_Delivery> optCommentDelivery = comment_deliveryRepository.findByDcId(request.getDId());
-        List<Comment_Delivery> listCommentDelivery = comment_deliveryRepository.findByDelivery(delivery);
-
         // 404 - 글 존재하지 않음
-        if(optDelivery.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
+        Delivery existingDelivery = findByDId(request.getDId());
 
         // 403 - 권한 없음(작성인 != 삭제요청인)
-        if(!optDelivery.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!existingDelivery.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
-        // 409 - 아직 진행 중인 신청이 있으면 임의로 삭제 안됨
-        if(listCommentDelivery.stream().anyMatch(s -> !(s.getState().equals(ApplyState.CANCELED) || s.getState().equals(ApplyState.REJECTED))))
+        // 409 - 아직 진행 중인 신청이 있으면 임의로 삭제 안됨 (취소, 거절이 아닌 신청글)
+        if(comment_deliveryRepository.existsByDeliveryAndStateNotIn(existingDelivery, List.of(ApplyState.CANCELED, ApplyState.REJECTED)))
             throw new CustomException(ErrorCode.CONFLICT);
 
         try {
-            Delivery existingDelivery = optDelivery.get();
             existingDelivery.setState(PostState.DELETED);
             deliveryRepository.save(existingDelivery);
 
@@ -243,7 +263,7 @@ public class DeliveryService {
         if(optDelivery.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음(작성인 != 마감요청인)
-        if(!optDelivery.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optDelivery.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 이미 글이 마감된 상태 or 삭제된 상태
         if(optDelivery.get().getState().equals(PostState.FINISHED) || optDelivery.get().getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
@@ -253,6 +273,7 @@ public class DeliveryService {
             delivery.setState(PostState.FINISHED);
             deliveryRepository.save(delivery);
             waitToFinish(delivery); // 대기 신청글 => 마감처리
+            eventPublisher.publishEvent(new PostFinishedEvent(EntityCode.DELIVERY, delivery.getDId(), studentId));
 
             return true;
         }
@@ -272,40 +293,37 @@ public class DeliveryService {
         // 유저 확인 404 포함
         User user = findByStudentId(studentId);
         Delivery delivery = findByDId(request.getDId());
-        List<Comment_Delivery> listCommentDelivery = comment_deliveryRepository.findByUserAndDelivery(user, delivery);
 
-        // 404 - 글 state가 DELETED OR FINISHED
-        if(delivery.getState().equals(PostState.DELETED) || delivery.getState().equals(PostState.FINISHED))
+        // 404 - 글 state가 DELETED OR FINISHED (마감 시간이 지났지만 아직 마감 처리 전인 글 포함)
+        if(delivery.getState().equals(PostState.DELETED) || delivery.getState().equals(PostState.FINISHED)
+                || !delivery.getDue().isAfter(LocalDateTime.now()))
             throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음 => 자신의 글에 신청한 경우(작성인 == 신청인)
-        if(delivery.getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(delivery.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
-        // 신청 전적이 있는 상태에서
-        if(!listCommentDelivery.isEmpty()) {
-            // 409 - 신청 => 대기 상태 OR 수락 상태가 1개라도 있으면
-            if(listCommentDelivery.stream().anyMatch(s -> s.getState().equals(ApplyState.WAITING) || s.getState().equals(ApplyState.ACCEPTED)))
-                throw new CustomException(ErrorCode.CONFLICT);
-        }
+        // 409 - 신청 => 대기 상태 OR 수락 상태인 신청글이 이미 있으면
+        if(comment_deliveryRepository.existsByUserAndDeliveryAndStateIn(user, delivery, List.of(ApplyState.WAITING, ApplyState.ACCEPTED)))
+            throw new CustomException(ErrorCode.CONFLICT);
 
+        Comment_Delivery comment = Comment_Delivery.builder()
+                .user(user)
+                .delivery(delivery)
+                .contents(request.getContents())
+                .details(request.getDetails())
+                .state(request.getState())
+                .build();
         try {
-            Comment_Delivery comment = Comment_Delivery.builder()
-                    .user(user)
-                    .delivery(delivery)
-                    .contents(request.getContents())
-                    .details(request.getDetails())
-                    .state(request.getState())
-                    .build();
-            comment_deliveryRepository.save(comment);
-
-            Long receiver = delivery.getUser().getStudentId(); // 모집자
-            String title = "같이 배달 New 신청";
-            String contents = user.getNickname() + "님께서 <" + delivery.getTitle() + "> 같이 배달을 신청했어요!";
-            sendPush(receiver, delivery.getDId(), title, contents);
+            comment_deliveryRepository.saveAndFlush(comment);
         }
-        catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        catch (DataIntegrityViolationException e) {
+            // 409 - 동시에 들어온 중복 신청 (진행 중 신청글 유니크 인덱스)
+            throw new CustomException(ErrorCode.CONFLICT);
         }
+
+        // 모집자에게 알림 => 커밋 후 이벤트 버스에서
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(EntityCode.DELIVERY, delivery.getDId(), comment.getDcId(),
+                studentId, delivery.getUser().getStudentId(), delivery.getTitle(), user.getNickname()));
         return true;
     }
 
@@ -322,7 +340,7 @@ public class DeliveryService {
         if(optComment_Delivery.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음(신청자 != 신청글 삭제 요청인)
-        if(!optComment_Delivery.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optComment_Delivery.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 취소 불가 => 대기 상태가 아닌 모든 경우
         if(!optComment_Delivery.get().getState().equals(ApplyState.WAITING))
@@ -332,6 +350,8 @@ public class DeliveryService {
             Comment_Delivery comment_delivery = optComment_Delivery.get();
             comment_delivery.setState(ApplyState.CANCELED);
             comment_deliveryRepository.save(comment_delivery);
+            eventPublisher.publishEvent(new ApplicationCanceledEvent(EntityCode.DELIVERY, comment_delivery.getDelivery().getDId(),
+                    comment_delivery.getDcId(), studentId));
             return true;
         }
         catch (Exception e) {
@@ -353,7 +373,7 @@ public class DeliveryService {
         if(optDelivery.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 신청 수락 권한 없음
-        if(!optDelivery.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optDelivery.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 글이 활성화 상태가 아님 OR 신청이 대기 상태가 아님(수락, 삭제, 거절 등)
         if(!optDelivery.get().getState().equals(PostState.ACTIVE) || !optComment_Delivery.get().getState().equals(ApplyState.WAITING)) throw new CustomException(ErrorCode.CONFLICT);
@@ -364,10 +384,9 @@ public class DeliveryService {
             comment_delivery.setState(ApplyState.ACCEPTED);
             comment_deliveryRepository.save(comment_delivery);
 
-            Long receiver = optComment_Delivery.get().getUser().getStudentId(); // 신청자
-            String title = "같이 배달 신청 수락";
-            String contents = user.getNickname() + "님께서 <" + optDelivery.get().getTitle() + "> 같이 배달을 수락했어요!";
-            sendPush(receiver, optDelivery.get().getDId(), title, contents);
+            // 신청자에게 알림 => 커밋 후 이벤트 버스에서
+            eventPublisher.publishEvent(new ApplicationAcceptedEvent(EntityCode.DELIVERY, optDelivery.get().getDId(), comment_delivery.getDcId(),
+                    comment_delivery.getUser().getStudentId(), optDelivery.get().getTitle(), user.getNickname(), optDelivery.get().getDue()));
 
             return true;
         }
@@ -392,7 +411,7 @@ public class DeliveryService {
         Delivery delivery = findByDId(optComment_Delivery.get().getDelivery().getDId());
 
         // 403 - 거절 수락 권한 없음
-        if(!delivery.getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!delivery.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 글이 활성화 상태가 아님 OR 신청이 대기 상태가 아님(수락, 삭제, 거절 등)
         if(!delivery.getState().equals(PostState.ACTIVE) || !optComment_Delivery.get().getState().equals(ApplyState.WAITING)) throw new CustomException(ErrorCode.CONFLICT);
@@ -402,10 +421,9 @@ public class DeliveryService {
             comment_delivery.setState(ApplyState.REJECTED);
             comment_deliveryRepository.save(comment_delivery);
 
-            Long receiver = optComment_Delivery.get().getUser().getStudentId(); // 신청자
-            String title = "같이 배달 신청 거절";
-            String contents = user.getNickname() + "님께서 <" + delivery.getTitle() + "> 같이 배달을 거절했어요!";
-            sendPush(receiver, delivery.getDId(), title, contents);
+            // 신청자에게 알림 => 커밋 후 이벤트 버스에서
+            eventPublisher.publishEvent(new ApplicationRejectedEvent(EntityCode.DELIVERY, delivery.getDId(), comment_delivery.getDcId(),
+                    comment_delivery.getUser().getStudentId(), delivery.getTitle(), user.getNickname()));
             return true;
         }
         catch (Exception e) {
@@ -438,36 +456,4 @@ public class DeliveryService {
         waitingComments.forEach(comment -> comment.setState(ApplyState.FINISHED));
         comment_deliveryRepository.saveAll(waitingComments);
     }
-
-    // 푸시 처리
-    public void sendPush(Long studentId, Long id, String title, String contents) throws Exception {
-        User user = userRepository.findByStudentId(studentId).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
-        String fcm = user.getFcm();
-
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(contents)
-                .build();
-
-        Message message = Message.builder()
-                .setToken(fcm)
-                .setNotification(notification)
-                .build();
-
-        try {
-            // 알림 보내기
-            firebaseMessaging.send(message);
-
-            // 알림 내역 저장
-            Push push = Push.builder()
-                    .user(user)
-                    .type(EntityCode.DELIVERY)
-                    .id(id)
-                    .contents(contents)
-                    .build();
-            pushRepository.save(push);
-        } catch (FirebaseMessagingException e) {
-            e.printStackTrace();
-        }
-    }
 }
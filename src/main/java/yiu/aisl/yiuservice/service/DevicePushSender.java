@@ -0,0 +1,70 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.repository.DeviceTokenRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+// 유저의 모든 기기로 발송 (sendEachForMulticast 한 번)
+// UNREGISTERED 응답을 받은 토큰 => DeviceTokenSweeper 가 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DevicePushSender {
+
+    // FCM 멀티캐스트 1번에 보낼 수 있는 토큰 수
+    private static final int MULTICAST_LIMIT = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final DeviceTokenSweeper deviceTokenSweeper;
+
+    public void send(Long studentId, String title, String contents) {
+        multicast(deviceTokenRepository.findTokensByStudentId(studentId), title, contents, "studentId: " + studentId);
+    }
+
+    // 여러 유저의 모든 기기로 같은 알림 (리마인더 등) => 토큰 조회 1번, 최대 MULTICAST_LIMIT 개씩 발송
+    public void send(Collection<Long> studentIds, String title, String contents) {
+        if (studentIds.isEmpty()) return;
+        List<String> tokens = deviceTokenRepository.findTokensByStudentIds(studentIds);
+        for (int from = 0; from < tokens.size(); from += MULTICAST_LIMIT) {
+            multicast(tokens.subList(from, Math.min(from + MULTICAST_LIMIT, tokens.size())), title, contents, "studentIds: " + studentIds);
+        }
+    }
+
+    private void multicast(List<String> tokens, String title, String contents, String target) {
+        if (tokens.isEmpty()) return;
+
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(contents)
+                        .build())
+                .build();
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+            if (response.getFailureCount() == 0) return;
+
+            // 응답 순서 = 토큰 순서
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (!sendResponse.isSuccessful() && isUnregistered(sendResponse.getException()))
+                    deviceTokenSweeper.report(tokens.get(i));
+            }
+        } catch (FirebaseMessagingException e) {
+            log.warn("푸시 발송 실패 ({}): {}", target, e.getMessage());
+        }
+    }
+
+    private static boolean isUnregistered(FirebaseMessagingException e) {
+        return e != null && (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED
+                || e.getMessagingErrorCode() == MessagingErrorCode.SENDER_ID_MISMATCH);
+    }
+}
@@ -0,0 +1,97 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.DeviceToken;
+import yiu.aisl.yiuservice.domain.Interest;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.repository.DeviceTokenRepository;
+import yiu.aisl.yiuservice.repository.InterestRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 기기 토큰 등록, 토픽 구독
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DeviceTokenService {
+
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final InterestRepository interestRepository;
+    private final TopicSubscriptionBatcher topicSubscriptionBatcher;
+    private final NoticeBroadcaster noticeBroadcaster;
+
+    // lastSeenAt 갱신 간격 => 로그인마다 UPDATE 하지 않음
+    @Value("${fcm.device.touch-interval-hours:24}")
+    private long touchIntervalHours;
+
+    // 로그인한 기기 등록
+    // 이미 등록된 토큰 => lastSeenAt 이 오래된 경우만 갱신, 새 토큰 => INSERT + 공지, 관심 토픽 구독
+    public void register(User user, String token) {
+        if (token == null || token.isBlank()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        DeviceToken mine = null;
+        for (DeviceToken deviceToken : deviceTokenRepository.findByToken(token)) {
+            if (deviceToken.getUser().getStudentId().equals(user.getStudentId())) {
+                mine = deviceToken;
+                continue;
+            }
+            // 다른 계정에서 쓰던 기기 => 이전 계정의 관심 토픽 해제, 토큰 삭제
+            interestRepository.findByUser(deviceToken.getUser())
+                    .forEach(interest -> topicSubscriptionBatcher.unsubscribe(token, interest.getTopic()));
+            deviceTokenRepository.delete(deviceToken);
+        }
+
+        if (mine != null) {
+            if (mine.getLastSeenAt().isBefore(now.minus(Duration.ofHours(touchIntervalHours))))
+                mine.setLastSeenAt(now);
+            return;
+        }
+
+        deviceTokenRepository.save(DeviceToken.builder()
+                .user(user)
+                .token(token)
+                .lastSeenAt(now)
+                .build());
+        noticeBroadcaster.subscribe(token);
+        interestRepository.findByUser(user)
+                .forEach(interest -> topicSubscriptionBatcher.subscribe(token, interest.getTopic()));
+    }
+
+    // 로그아웃한 기기 => 공지, 관심 토픽 해제 후 토큰 삭제
+    // 다른 계정으로 옮겨간 토큰은 그대로 (그 계정의 기기)
+    public void remove(Long studentId, String token) {
+        if (token == null || token.isBlank()) return;
+
+        for (DeviceToken deviceToken : deviceTokenRepository.findByToken(token)) {
+            if (!deviceToken.getUser().getStudentId().equals(studentId)) continue;
+            noticeBroadcaster.unsubscribe(token);
+            interestRepository.findByUser(deviceToken.getUser())
+                    .forEach(interest -> topicSubscriptionBatcher.unsubscribe(token, interest.getTopic()));
+            deviceTokenRepository.delete(deviceToken);
+        }
+    }
+
+    // 유저의 모든 기기 => 토픽 구독/해제
+    @Transactional(readOnly = true)
+    public void subscribe(Long studentId, String topic) {
+        deviceTokenRepository.findTokensByStudentId(studentId)
+                .forEach(token -> topicSubscriptionBatcher.subscribe(token, topic));
+    }
+
+    @Transactional(readOnly = true)
+    public void unsubscribe(Long studentId, String topic) {
+        deviceTokenRepository.findTokensByStudentId(studentId)
+                .forEach(token -> topicSubscriptionBatcher.unsubscribe(token, topic));
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findTokens(Long studentId) {
+        return deviceTokenRepository.findTokensByStudentId(studentId);
+    }
+}
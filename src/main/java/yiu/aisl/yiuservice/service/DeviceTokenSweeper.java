@@ -0,0 +1,68 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.repository.DeviceTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓸 수 없는 기기 토큰 정리
+// 1) 발송 결과 UNREGISTERED (앱 삭제, 토큰 만료) => 모아서 한 번에 DELETE
+// 2) fcm.device.stale-days 동안 로그인하지 않은 기기 => 공지, 관심 토픽 해제 후 DELETE
+//    (등록 해제된 토큰은 FCM 이 구독도 함께 지움 => 해제 요청 없이 삭제)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenSweeper {
+
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final TopicSubscriptionBatcher topicSubscriptionBatcher;
+    private final NoticeBroadcaster noticeBroadcaster;
+
+    private final Set<String> unregistered = ConcurrentHashMap.newKeySet();
+
+    @Value("${fcm.device.stale-days:60}")
+    private long staleDays;
+
+    public void report(String token) {
+        unregistered.add(token);
+    }
+
+    @Scheduled(fixedDelayString = "${fcm.device.sweep-interval-ms:60000}")
+    public void sweep() {
+        List<String> tokens = new ArrayList<>();
+        for (String token : unregistered) {
+            if (unregistered.remove(token)) tokens.add(token);
+        }
+
+        try {
+            int removed = tokens.isEmpty() ? 0 : deviceTokenRepository.deleteAllByTokens(tokens);
+            int stale = deleteStale(LocalDateTime.now().minusDays(staleDays));
+            if (removed + stale > 0) log.info("기기 토큰 정리: 등록 해제 {}건, 미사용 {}건", removed, stale);
+        } catch (Exception e) {
+            // 실패 => 다음 주기에 다시
+            unregistered.addAll(tokens);
+            log.warn("기기 토큰 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // register() 에서 다른 계정의 기기를 지울 때와 같이 => 토픽 해제를 먼저 넣고 삭제
+    // 해제는 TopicSubscriptionBatcher 가 모아서 처리, 토큰이 지워진 뒤에도 요청은 남음
+    private int deleteStale(LocalDateTime cutoff) {
+        List<String> tokens = deviceTokenRepository.findStaleTokens(cutoff);
+        if (tokens.isEmpty()) return 0;
+
+        tokens.forEach(noticeBroadcaster::unsubscribe);
+        for (Object[] row : deviceTokenRepository.findStaleTopics(cutoff)) {
+            topicSubscriptionBatcher.unsubscribe((String) row[0], (String) row[1]);
+        }
+        return deviceTokenRepository.deleteStale(cutoff);
+    }
+}
@@ -0,0 +1,47 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 마감 처리 스케줄 (기본 1분마다) => 조회 요청이 primary 쓰기 트랜잭션, 행 잠금을 만들지 않도록 (조회는 복제본에서 읽기만)
+// 모든 서버에서 같은 주기로 실행됨 => 임대(ClusterLease)를 얻은 서버 하나만 실행
+// 처리 전까지 마감 시간이 지난 ACTIVE 글은 조회 쿼리에서 마감(FINISHED)으로 보여줌 (PostReadMapper)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "expire.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpireScheduler {
+
+    private static final String LEASE = "expire";
+
+    private final ExpireService expireService;
+    private final ClusterLease clusterLease;
+
+    // 임대 유지 시간 => 한 번의 마감 처리보다 충분히 길게
+    @Value("${expire.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Scheduled(initialDelayString = "${expire.interval-ms:60000}", fixedDelayString = "${expire.interval-ms:60000}")
+    public void expire() {
+        String owner = clusterLease.acquire(LEASE, Duration.ofSeconds(leaseSeconds));
+        if (owner == null) return;
+
+        try {
+            expireService.expireDelivery();
+            expireService.expireTaxi();
+        }
+        catch (Exception e) {
+            // 롤백 => 다음 주기에 다시 대상이 됨
+            log.warn("마감 처리 실패: {}", e.getMessage());
+        }
+        finally {
+            clusterLease.release(LEASE, owner);
+        }
+    }
+}
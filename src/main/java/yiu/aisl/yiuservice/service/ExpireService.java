@@ -0,0 +1,59 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.ExpiredPost;
+import yiu.aisl.yiuservice.event.PostFinishedEvent;
+import yiu.aisl.yiuservice.repository.Comment_DeliveryRepository;
+import yiu.aisl.yiuservice.repository.Comment_TaxiRepository;
+import yiu.aisl.yiuservice.repository.DeliveryRepository;
+import yiu.aisl.yiuservice.repository.TaxiRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 마감 시간(due)이 지난 모집글 일괄 마감 처리
+// 대상 글의 (id, 작성자)만 잠가서 조회 => 신청글, 글을 id 목록으로 UPDATE 한 번씩, 글마다 PostFinishedEvent 발행 (커밋 후)
+// ExpireScheduler 에서만 실행 => 조회는 쓰지 않고 마감 시간(due > now)으로 걸러서 보여줌
+// 신청글은 대기(WAITING)만 FINISHED => 수락, 거절, 취소 내역은 그대로 남김 (작성자가 직접 마감할 때의 waitToFinish 와 같은 규칙)
+// 이전 UserService 의 마감 처리는 글의 모든 신청글을 FINISHED 로 바꿨음 => 수락된 신청도 FINISHED 로 보이던 동작은 바뀜
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ExpireService {
+
+    private final DeliveryRepository deliveryRepository;
+    private final Comment_DeliveryRepository comment_deliveryRepository;
+    private final TaxiRepository taxiRepository;
+    private final Comment_TaxiRepository comment_taxiRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 배달 모집글 => FINISHED, 대기 중인 신청글 => FINISHED
+    public void expireDelivery() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ExpiredPost> expired = deliveryRepository.findOverdueForUpdate(PostState.ACTIVE, now);
+        if (expired.isEmpty()) return;
+
+        List<Long> ids = expired.stream().map(ExpiredPost::postId).toList();
+        comment_deliveryRepository.updateStateByDeliveryIds(ids, ApplyState.WAITING, ApplyState.FINISHED, now);
+        deliveryRepository.updateStateByIds(ids, PostState.ACTIVE, PostState.FINISHED, now);
+        expired.forEach(post -> eventPublisher.publishEvent(new PostFinishedEvent(EntityCode.DELIVERY, post.postId(), post.writerId())));
+    }
+
+    // 택시 모집글 => FINISHED, 대기 중인 신청글 => FINISHED
+    public void expireTaxi() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ExpiredPost> expired = taxiRepository.findOverdueForUpdate(PostState.ACTIVE, now);
+        if (expired.isEmpty()) return;
+
+        List<Long> ids = expired.stream().map(ExpiredPost::postId).toList();
+        comment_taxiRepository.updateStateByTaxiIds(ids, ApplyState.WAITING, ApplyState.FINISHED, now);
+        taxiRepository.updateStateByIds(ids, PostState.ACTIVE, PostState.FINISHED, now);
+        expired.forEach(post -> eventPublisher.publishEvent(new PostFinishedEvent(EntityCode.TAXI, post.postId(), post.writerId())));
+    }
+}
@@ -0,0 +1,29 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.IdGenerators;
+
+// 네이티브 대량 INSERT 용 id 구간 예약 => Hibernate(pooled-lo) 와 같은 id_generator 행을 씀
+// [반환값, 반환값 + count) 는 다른 서버, Hibernate 가 발급하지 않음
+@Component
+@RequiredArgsConstructor
+public class IdBlockAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 짧은 별도 트랜잭션 => 행 잠금을 바로 풂
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String segment, int count) {
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ? FOR UPDATE",
+                Long.class, segment);
+        jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                next + count, segment);
+        return next;
+    }
+}
@@ -0,0 +1,50 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.domain.Interest;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.event.PostCreatedEvent;
+import yiu.aisl.yiuservice.event.PostEvent;
+import yiu.aisl.yiuservice.event.PostEventHandler;
+
+// 새 글 => 관심 조건 토픽으로 1회 발송 (구독자 조회, 개별 발송 없음, PostEventBus 스레드)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestBroadcaster implements PostEventHandler {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public void handle(PostEvent event) {
+        if (!(event instanceof PostCreatedEvent e)) return;
+
+        if (e.type() == EntityCode.DELIVERY && e.foodCode() != null)
+            send(Interest.deliveryTopic(e.foodCode()), "관심 음식 배달 모집", e.title(), e.type(), e.postId());
+        else if (e.type() == EntityCode.TAXI && e.startCode() != null && e.endCode() != null)
+            send(Interest.taxiTopic(e.startCode(), e.endCode()), "관심 경로 택시 모집", e.title(), e.type(), e.postId());
+    }
+
+    private void send(String topic, String title, String body, EntityCode type, Long id) {
+        Message message = Message.builder()
+                .setTopic(topic)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .putData("type", type.name())
+                .putData("id", String.valueOf(id))
+                .build();
+        try {
+            firebaseMessaging.send(message);
+        } catch (FirebaseMessagingException e) {
+            log.warn("관심 토픽 {} 발송 실패 ({}: {}): {}", topic, type, id, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package yiu.aisl.yiuservice.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.config.CustomUserDetails;
 import yiu.aisl.yiuservice.domain.User;
 import yiu.aisl.yiuservice.repository.UserRepository;
@@ -32,7 +32,7 @@ public class JpaUserDetailsService implements UserDetailsService {
     }
 
 //    @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserDetails loadUserByStudentId(Long studentId) throws UsernameNotFoundException {
         User user = userRepository.findByStudentId(studentId).orElseThrow(
                 () -> new UsernameNotFoundException("사용자가 존재하지 않습니다.")
@@ -0,0 +1,128 @@
+package yiu.aisl.yiuservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import yiu.aisl.yiuservice.config.MessageConverterConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// 목록 조회 결과를 한 행씩 배열(JSON, CBOR, Smile)로 응답에 바로 씀
+// => 엔티티 List, DTO List 를 통째로 메모리에 올리지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ListStreamWriter {
+
+    // 이 개수마다 응답 flush + 영속성 컨텍스트 비우기
+    private static final int CLEAR_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    // Accept 헤더 => 응답 형식
+    // q 값이 높은 순, 같으면 구체적인 형식(와일드카드 아님) 먼저 => JSON, CBOR, Smile 중 처음 맞는 형식 (q=0 은 제외)
+    // 맞는 형식이 없거나 잘못된 Accept => JSON
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) return MediaType.APPLICATION_JSON;
+        try {
+            List<MediaType> types = MediaType.parseMediaTypes(accept).stream()
+                    .filter(type -> type.getQualityValue() > 0)
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                            .thenComparing(MediaType::isWildcardType)
+                            .thenComparing(MediaType::isWildcardSubtype))
+                    .toList();
+            for (MediaType type : types) {
+                if (type.includes(MediaType.APPLICATION_JSON)) return MediaType.APPLICATION_JSON;
+                if (type.equalsTypeAndSubtype(MessageConverterConfig.CBOR)) return MessageConverterConfig.CBOR;
+                if (type.equalsTypeAndSubtype(MessageConverterConfig.SMILE)) return MessageConverterConfig.SMILE;
+            }
+        }
+        catch (InvalidMediaTypeException e) {
+            // 잘못된 Accept => JSON
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    // sources 순서대로 이어서 format(negotiate 결과) 배열 하나로 씀
+    public <T> StreamingResponseBody write(List<Supplier<Stream<T>>> sources, Function<? super T, ?> mapper, MediaType format) {
+        ObjectMapper formatMapper = mapperFor(format);
+        ObjectWriter writer = formatMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        return outputStream -> {
+            // 응답 쓰기는 컨트롤러 반환 후 별도 스레드에서 실행 => 조회용 트랜잭션을 따로 엶
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                int count = 0;
+                try (JsonGenerator generator = formatMapper.getFactory().createGenerator(outputStream)) {
+                    generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                    // 중간에 실패해도 닫을 때 배열을 닫지 않음 => 잘린 응답이 완전한 목록으로 보이지 않도록
+                    generator.configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+                    generator.writeStartArray();
+                    for (Supplier<Stream<T>> source : sources) {
+                        try (Stream<T> stream = source.get()) {
+                            Iterator<T> iterator = stream.iterator();
+                            while (iterator.hasNext()) {
+                                writer.writeValue(generator, mapper.apply(iterator.next()));
+                                if (++count % CLEAR_INTERVAL == 0) {
+                                    generator.flush();
+                                    entityManager.clear();
+                                }
+                            }
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+                catch (IOException | RuntimeException e) {
+                    // 응답은 이미 시작됨 (상태 코드 변경 불가) => 예외를 다시 던져서 컨테이너가 연결을 끊도록 (chunked 응답의 마지막 chunk 를 보내지 않음)
+                    log.warn("목록 응답 중단 ({}건 쓴 뒤): {}", count, e.getMessage());
+                    if (e instanceof IOException io) throw new UncheckedIOException(io);
+                    throw (RuntimeException) e;
+                }
+            });
+        };
+    }
+
+    private ObjectMapper mapperFor(MediaType format) {
+        if (format.equalsTypeAndSubtype(MessageConverterConfig.CBOR)) return cborConverter.getObjectMapper();
+        if (format.equalsTypeAndSubtype(MessageConverterConfig.SMILE)) return smileConverter.getObjectMapper();
+        return objectMapper;
+    }
+
+    // MyBatis 커서 => Stream (Stream 을 닫으면 커서도 닫힘)
+    public static <T> Stream<T> stream(Cursor<T> cursor) {
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+            try {
+                cursor.close();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -1,26 +1,26 @@
 package yiu.aisl.yiuservice.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.PostState;
 import yiu.aisl.yiuservice.dto.*;
 import yiu.aisl.yiuservice.exception.CustomException;
 import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
 import yiu.aisl.yiuservice.repository.*;
 import yiu.aisl.yiuservice.security.TokenProvider;
+import yiu.aisl.yiuservice.security.TokenRevocationStore;
 
 import java.io.UnsupportedEncodingException;
 import java.time.Duration;
@@ -33,11 +33,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MainService {
 
-    private final FirebaseMessaging firebaseMessaging;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenRepository tokenRepository;
     private final TokenProvider tokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final NicknameFilter nicknameFilter;
 
     private final DeliveryRepository deliveryRepository;
     private final Comment_DeliveryRepository comment_deliveryRepository;
@@ -45,6 +46,9 @@ public class MainService {
     private final Comment_TaxiRepository comment_taxiRepository;
 
     private final NoticeRepository noticeRepository;
+    private final PostReadMapper postReadMapper;
+    private final DeviceTokenService deviceTokenService;
+    private final DevicePushSender devicePushSender;
 //    private final TokenService tokenService;
 
     private final JavaMailSender javaMailSender;
@@ -59,80 +63,30 @@ public class MainService {
     @Transactional
     public void pushTest() throws Exception {
         User user = userRepository.findByStudentId(202033013L).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
-        String fcm = user.getFcm();
-
-        Notification notification = Notification.builder()
-                .setTitle("안녕")
-                .setBody("지금은 새벽 3시야ㅎㅎ")
-                .build();
-
-        Message message = Message.builder()
-                .setToken(fcm)
-                .setNotification(notification)
-                .build();
-        
-        try {
-            firebaseMessaging.send(message);
-        } catch (FirebaseMessagingException e) {
-            e.printStackTrace();
-        }
+        devicePushSender.send(user.getStudentId(), "안녕", "지금은 새벽 3시야ㅎㅎ");
     }
 
     // 메인 데이터 조회 [all]
-    @Transactional
+    @Transactional(readOnly = true)
     public Map<String, List<?>> getList() throws Exception {
 
         try {
+            // 마감 시간이 지난 글 => 마감 처리(ExpireScheduler) 전이어도 FINISHED 목록으로
+            LocalDateTime now = LocalDateTime.now();
+
             // Delivery
-            List<Delivery> listDeliveryActive = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.ACTIVE);
-            List<Delivery> listDeliveryDeleted = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.DELETED);
-            List<Delivery> listDeliveryFinished = deliveryRepository.findByStateOrderByCreatedAtDesc(PostState.FINISHED);
-
-            // 현재 시간과 비교하여 due가 이미 지났다면 상태를 모두 FINISHED로 변경
-            LocalDateTime currentTime = LocalDateTime.now();
-            listDeliveryFinished.addAll(listDeliveryActive.stream()
-                    .filter(delivery -> delivery.getDue().isBefore(currentTime))
-                    .map(delivery -> {
-                        delivery.setState(PostState.FINISHED);
-
-                        // 마감된 배달 모집 글에 따른 신청글 => state가 ApplyState.WAITING인 글의 state를 FINISHED로 변경
-                        List<Comment_Delivery> waitingComments = comment_deliveryRepository.findByDeliveryAndState(delivery, ApplyState.WAITING);
-                        waitingComments.forEach(comment -> comment.setState(ApplyState.FINISHED));
-                        comment_deliveryRepository.saveAll(waitingComments);
-                        return delivery;
-                    })
-                    .collect(Collectors.toList()));
-
-            List<DeliveryResponse> deliveryGetListDTO = new ArrayList<>();
-            deliveryGetListDTO.addAll(listDeliveryActive.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
-            deliveryGetListDTO.addAll(listDeliveryDeleted.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
-            deliveryGetListDTO.addAll(listDeliveryFinished.stream().map(DeliveryResponse::GetDeliveryDTO).collect(Collectors.toList()));
+            List<DeliveryListResponse> deliveryGetListDTO = new ArrayList<>();
+            deliveryGetListDTO.addAll(postReadMapper.findOpenDeliveryList(PostState.ACTIVE, now));
+            deliveryGetListDTO.addAll(postReadMapper.findDeliveryListByState(PostState.DELETED));
+            postReadMapper.findClosedDeliveryList(PostState.FINISHED, PostState.ACTIVE, now)
+                    .forEach(delivery -> deliveryGetListDTO.add(DeliveryService.closed(delivery)));
 
             // Taxi
-            List<Taxi> listTaxiActive = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.ACTIVE);
-            List<Taxi> listTaxiDeleted = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.DELETED);
-            List<Taxi> listTaxiFinished = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.FINISHED);
-
-            // 현재 시간과 비교하여 due가 이미 지났다면 상태를 모두 FINISHED로 변경
-//            LocalDateTime currentTime = LocalDateTime.now();
-            listTaxiFinished.addAll(listTaxiActive.stream()
-                    .filter(taxi -> taxi.getDue().isBefore(currentTime))
-                    .map(taxi -> {
-                        taxi.setState(PostState.FINISHED);
-
-                        // 마감된 택시 모집 글에 따른 신청글 => state가 ApplyState.WAITING인 글의 state를 FINISHED로 변경
-                        List<Comment_Taxi> waitingComments = comment_taxiRepository.findByTaxiAndState(taxi, ApplyState.WAITING);
-                        waitingComments.forEach(comment -> comment.setState(ApplyState.FINISHED));
-                        comment_taxiRepository.saveAll(waitingComments);
-
-                        return taxi;
-                    })
-                    .collect(Collectors.toList()));
-
-            List<TaxiResponse> taxiGetListDTO = new ArrayList<>();
-            taxiGetListDTO.addAll(listTaxiActive.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
-            taxiGetListDTO.addAll(listTaxiDeleted.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
-            taxiGetListDTO.addAll(listTaxiFinished.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
+            List<TaxiListResponse> taxiGetListDTO = new ArrayList<>();
+            taxiGetListDTO.addAll(postReadMapper.findOpenTaxiList(PostState.ACTIVE, now));
+            taxiGetListDTO.addAll(postReadMapper.findTaxiListByState(PostState.DELETED));
+            postReadMapper.findClosedTaxiList(PostState.FINISHED, PostState.ACTIVE, now)
+                    .forEach(taxi -> taxiGetListDTO.add(TaxiService.closed(taxi)));
 
             // Notice
             List<Notice> notice = noticeRepository.findAllByOrderByCreatedAtDesc();
@@ -158,8 +112,9 @@ public class MainService {
         if(request.getStudentId() == null || request.getNickname() == null || request.getPwd() == null)
             throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
-        // 409 - 학번 or 닉네임 이미 존재
-        if (userRepository.findByStudentId(request.getStudentId()).isPresent() || userRepository.findByNickname(request.getNickname()).isPresent())
+        // 409 - 학번 or 닉네임 이미 존재 (닉네임 필터에 없으면 닉네임 DB 조회 생략)
+        if (userRepository.existsByStudentId(request.getStudentId())
+                || (nicknameFilter.mightExist(request.getNickname()) && userRepository.existsByNickname(request.getNickname())))
             throw new CustomException(ErrorCode.DUPLICATE);
 
         // 데이터 저장
@@ -169,7 +124,12 @@ public class MainService {
                     .nickname(request.getNickname())
                     .pwd(passwordEncoder.encode(request.getPwd()))
                     .build();
-            userRepository.save(user);
+            userRepository.saveAndFlush(user);
+            nicknameFilter.put(user.getNickname());
+        }
+        catch (DataIntegrityViolationException e) {
+            // 409 - 동시에 같은 학번/닉네임으로 가입한 경우 unique 제약에서 걸림
+            throw new CustomException(ErrorCode.DUPLICATE);
         }
         catch (Exception e) {
             throw new Exception("서버 오류");
@@ -178,13 +138,14 @@ public class MainService {
     }
 
     // <API> 닉네임 중복 확인
-    @Transactional
+    @Transactional(readOnly = true)
     public Boolean checkNickname(CheckNicknameRequestDTO request) throws Exception {
         // 400 - 데이터 없음
         if(request.getNickname() == null) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
         // 409 - 닉네임 존재 => 중복
-        if (userRepository.findByNickname(request.getNickname()).isPresent()) {
+        // 필터에 없으면 사용 가능 확정 => DB 조회 없이 응답, 있을 수도 있으면 DB 확인
+        if (nicknameFilter.mightExist(request.getNickname()) && userRepository.existsByNickname(request.getNickname())) {
             throw new CustomException(ErrorCode.DUPLICATE);
         }
 
@@ -209,15 +170,16 @@ public class MainService {
 
         try {
             // 리프레시 토큰 생성
-            user.setRefreshToken(createRefreshToken(user));
-            user.setFcm(request.getFcm());
+            // 리프레시 토큰은 Redis 에만 저장, 기기 토큰은 바뀐 경우에만 기록 => 로그인마다 user UPDATE 없음
+            String refreshToken = createRefreshToken(user);
+            deviceTokenService.register(user, request.getFcm());
             // String accessToken = tokenProvider.generateToken(user, Duration.ofHours(2));
             UserLoginResponseDto response = UserLoginResponseDto.builder()
                     .studentId(user.getStudentId())
                     .nickname(user.getNickname())
                     .token(TokenDto.builder()
                             .accessToken(tokenProvider.createToken(user))
-                            .refreshToken(user.getRefreshToken())
+                            .refreshToken(refreshToken)
                             .build())
                     .build();
             return response;
@@ -227,6 +189,22 @@ public class MainService {
         }
     }
 
+    // <API> 로그아웃 => 이 access token 폐기, refresh token 삭제
+    // fcm => 로그아웃하는 기기의 토큰, 보내지 않은 경우(이전 버전 앱) 토큰은 남고 fcm.device.stale-days 뒤 DeviceTokenSweeper 가 정리
+    public Boolean logout(Long studentId, String accessToken, String fcm) throws Exception {
+        Claims claims = tokenProvider.getValidClaims(accessToken);
+        try {
+            if(claims != null) tokenRevocationStore.revoke(claims, accessToken);
+            tokenRepository.deleteById(studentId);
+            // 로그아웃한 기기로 알림이 가지 않도록
+            deviceTokenService.remove(studentId, fcm);
+        }
+        catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return true;
+    }
+
     // <API> 비밀번호 재설정
     public Boolean changePwd(ChangePwdRequestDTO request) throws Exception {
         // 400 - 데이터 없음
@@ -240,6 +218,10 @@ public class MainService {
         try {
             user.setPwd(passwordEncoder.encode(request.getPwd()));
             userRepository.save(user);
+
+            // 이전에 발급된 access token 전체 폐기, refresh token 삭제 => 다시 로그인
+            tokenRevocationStore.revokeAll(user.getStudentId());
+            tokenRepository.deleteById(user.getStudentId());
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -301,7 +283,7 @@ public class MainService {
         if(email == null) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
         // 409 - 해당 학번의 회원 존재 => 중복
-        if (userRepository.findByStudentId(Long.parseLong(email)).isPresent())
+        if (userRepository.existsByStudentId(Long.parseLong(email)))
             throw new CustomException(ErrorCode.DUPLICATE);
 
         //메일전송에 필요한 정보 설정
@@ -318,8 +300,8 @@ public class MainService {
         if(email == null) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
         // 404 - 해당 학번 존재하지 않음
-        User user = userRepository.findByStudentId(Long.parseLong(email)).orElseThrow(() ->
-                new CustomException(ErrorCode.MEMBER_NOT_EXIST));
+        if (!userRepository.existsByStudentId(Long.parseLong(email)))
+            throw new CustomException(ErrorCode.MEMBER_NOT_EXIST);
 
         //메일전송에 필요한 정보 설정
         MimeMessage emailForm = createEmailForm(email+"@yiu.ac.kr");
@@ -0,0 +1,83 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.repository.UserRepository;
+import yiu.aisl.yiuservice.util.BloomFilter;
+
+// 가입된 닉네임 Bloom filter => /nickcheck, /join 에서 "확실히 없는" 닉네임은 DB 조회 생략
+// 서버 인스턴스별 메모리 => 등록은 Redis pub/sub 으로 모든 서버에 전달 (NicknameListenerConfig), 놓친 등록은 주기적 재적재로 반영
+// 최종 중복 판단은 항상 DB(user.nickname unique)가 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameFilter {
+
+    public static final String CHANNEL = "nickname-registered";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${nickname.filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${nickname.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 로딩 전에는 null => 항상 DB 조회
+    private volatile BloomFilter filter;
+    // 로딩 중 추가된 닉네임도 빠지지 않도록 로딩 중인 필터에도 기록
+    private volatile BloomFilter loading;
+
+    // 시작할 때, 그리고 주기적으로 DB 에서 다시 적재 => pub/sub 을 놓친(Redis 장애 등) 다른 서버의 등록도 반영
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${nickname.filter.rebuild-interval-ms:600000}", fixedDelayString = "${nickname.filter.rebuild-interval-ms:600000}")
+    public void load() {
+        BloomFilter loaded = new BloomFilter(expectedInsertions, falsePositiveRate);
+        loading = loaded;
+        try {
+            userRepository.findAllNicknames().forEach(loaded::put);
+            filter = loaded;
+        }
+        catch (Exception e) {
+            // 이전 필터 유지 (처음이면 null => DB 조회로 동작)
+            log.warn("닉네임 필터 로딩 실패: {}", e.getMessage());
+        }
+        finally {
+            loading = null;
+        }
+    }
+
+    // false => 사용 중인 닉네임이 확실히 아님
+    public boolean mightExist(String nickname) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(nickname);
+    }
+
+    // 가입, 닉네임 변경 시 등록 => 이 서버 필터에 바로 추가 + 다른 서버로 발행
+    public void put(String nickname) {
+        onRegistered(nickname);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nickname);
+        }
+        catch (Exception e) {
+            // 다른 서버는 다음 적재 때 반영
+            log.warn("닉네임 등록 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // pub/sub 수신 (다른 서버, 자기 자신 포함)
+    // 로딩 중인 필터를 먼저 읽음 => 적재가 끝나 filter 로 교체되는 사이에 들어와도 둘 중 하나에는 기록
+    public void onRegistered(String nickname) {
+        BloomFilter pending = loading;
+        if(pending != null) pending.put(nickname);
+        BloomFilter current = filter;
+        if(current != null) current.put(nickname);
+    }
+}
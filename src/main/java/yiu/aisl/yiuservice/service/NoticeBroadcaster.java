@@ -0,0 +1,63 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import yiu.aisl.yiuservice.event.NoticeCreatedEvent;
+
+// 공지사항 전체 알림
+// 발송 => 모든 기기가 구독한 FCM 토픽으로 1회, 알림 내역(push) => 샤드별 INSERT ... SELECT 를 병렬로
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeBroadcaster {
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final PushFanout pushFanout;
+    private final TopicSubscriptionBatcher topicSubscriptionBatcher;
+
+    @Value("${fcm.notice-topic:notice}")
+    private String topic;
+
+    @Value("${push.fanout.shards:8}")
+    private int shards;
+
+    // 로그인한 기기 => 공지 토픽 구독 (모아서 처리)
+    public void subscribe(String fcm) {
+        topicSubscriptionBatcher.subscribe(fcm, topic);
+    }
+
+    // 로그아웃, 정리된 기기 => 공지 토픽 해제
+    public void unsubscribe(String fcm) {
+        topicSubscriptionBatcher.unsubscribe(fcm, topic);
+    }
+
+    @Async("pushExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeCreated(NoticeCreatedEvent event) {
+        Message message = Message.builder()
+                .setTopic(topic)
+                .setNotification(Notification.builder()
+                        .setTitle("새 공지사항")
+                        .setBody(event.title())
+                        .build())
+                .build();
+        try {
+            firebaseMessaging.send(message);
+        } catch (FirebaseMessagingException e) {
+            log.warn("공지 알림 발송 실패 (noticeId: {}): {}", event.noticeId(), e.getMessage());
+        }
+
+        for (int shard = 0; shard < shards; shard++) {
+            pushFanout.insertNoticeShard(event.noticeId(), event.title(), shard, shards);
+        }
+    }
+}
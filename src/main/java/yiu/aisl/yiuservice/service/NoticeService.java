@@ -1,8 +1,11 @@
 package yiu.aisl.yiuservice.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.domain.Notice;
 import yiu.aisl.yiuservice.domain.Notice;
 import yiu.aisl.yiuservice.domain.User;
@@ -10,6 +13,7 @@ import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.PostState;
 import yiu.aisl.yiuservice.dto.NoticeRequest;
 import yiu.aisl.yiuservice.dto.NoticeResponse;
+import yiu.aisl.yiuservice.event.NoticeCreatedEvent;
 import yiu.aisl.yiuservice.dto.NoticeRequest;
 import yiu.aisl.yiuservice.dto.NoticeResponse;
 import yiu.aisl.yiuservice.exception.CustomException;
@@ -23,7 +27,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -32,17 +38,18 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
+    private final ListStreamWriter listStreamWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 공지사항 조회 [all]
-    @Transactional
-    public List<NoticeResponse> getList() throws Exception {
-        List<Notice> notice = noticeRepository.findAllByOrderByCreatedAtDesc();
-        List<NoticeResponse> getListDTO = new ArrayList<>();
-        notice.forEach(s -> getListDTO.add(NoticeResponse.GetNoticeDTO(s)));
-        return getListDTO;
+    @Transactional(readOnly = true)
+    public StreamingResponseBody getList(MediaType format) throws Exception {
+        List<Supplier<Stream<Notice>>> sources = List.of(noticeRepository::streamAllByOrderByCreatedAtDesc);
+        return listStreamWriter.write(sources, NoticeResponse::GetNoticeDTO, format);
     }
 
     // 공지사항 상세조회 [all]
+    @Transactional(readOnly = true)
     public NoticeResponse getDetail(NoticeRequest.DetailDTO request) throws Exception {
         // 400 - 데이터 없음
         if(request.getNoticeId().describeConstable().isEmpty()) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
@@ -73,6 +80,9 @@ public class NoticeService {
                     .contents(request.getContents())
                     .build();
             noticeRepository.save(notice);
+
+            // 커밋 후 전체 알림 (FCM 토픽 + 알림 내역)
+            eventPublisher.publishEvent(new NoticeCreatedEvent(notice.getNoticeId(), notice.getTitle()));
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,58 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Push;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.event.*;
+import yiu.aisl.yiuservice.repository.PushRepository;
+import yiu.aisl.yiuservice.repository.UserRepository;
+
+// 신청, 수락, 거절 => 받는 유저의 모든 기기로 발송 + 알림 내역 저장 (PostEventBus 스레드)
+@Component
+@RequiredArgsConstructor
+public class PostPushHandler implements PostEventHandler {
+
+    private final DevicePushSender devicePushSender;
+    private final PushRepository pushRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public void handle(PostEvent event) {
+        if (event instanceof ApplicationSubmittedEvent e) {
+            sendPush(e.writerId(), e.type(), e.postId(), name(e.type()) + " New 신청",
+                    e.applicantNickname() + "님께서 <" + e.postTitle() + "> " + object(e.type()) + " 신청했어요!");
+        }
+        else if (event instanceof ApplicationAcceptedEvent e) {
+            sendPush(e.applicantId(), e.type(), e.postId(), name(e.type()) + " 신청 수락",
+                    e.writerNickname() + "님께서 <" + e.postTitle() + "> " + object(e.type()) + " 수락했어요!");
+        }
+        else if (event instanceof ApplicationRejectedEvent e) {
+            sendPush(e.applicantId(), e.type(), e.postId(), name(e.type()) + " 신청 거절",
+                    e.writerNickname() + "님께서 <" + e.postTitle() + "> " + object(e.type()) + " 거절했어요!");
+        }
+    }
+
+    private void sendPush(Long studentId, EntityCode type, Long id, String title, String contents) {
+        devicePushSender.send(studentId, title, contents);
+
+        // 알림 내역 저장
+        Push push = Push.builder()
+                .user(userRepository.getReferenceById(studentId))
+                .type(type)
+                .id(id)
+                .contents(contents)
+                .build();
+        pushRepository.save(push);
+    }
+
+    private static String name(EntityCode type) {
+        return type == EntityCode.DELIVERY ? "같이 배달" : "같이 택시";
+    }
+
+    private static String object(EntityCode type) {
+        return type == EntityCode.DELIVERY ? "같이 배달을" : "같이 택시를";
+    }
+}
@@ -0,0 +1,60 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.domain.IdGenerators;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.repository.PushRepository;
+import yiu.aisl.yiuservice.repository.UserRepository;
+
+// 전체 유저 알림 내역 적재 => 학번 기준 샤드 하나 = INSERT ... SELECT 한 번 (샤드마다 별도 트랜잭션, 병렬 실행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushFanout {
+
+    private final PushRepository pushRepository;
+    private final UserRepository userRepository;
+    private final IdBlockAllocator idBlockAllocator;
+
+    // 실패 => retries 번까지 간격을 늘려가며 다시 (샤드 INSERT 는 한 트랜잭션 => 실패하면 남은 행 없음)
+    // 커밋 후 응답만 실패한 경우 대비 => 다시 시도하기 전에 이미 적재됐는지 확인
+    @Value("${push.fanout.retries:3}")
+    private int retries;
+
+    @Value("${push.fanout.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+
+    @Async("pushExecutor")
+    public void insertNoticeShard(Long noticeId, String contents, int shard, int shards) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (attempt > 1 && pushRepository.countForShard(EntityCode.NOTICE.ordinal(), noticeId, shards, shard) > 0) return;
+                // 샤드 유저 수만큼 push_id 구간 예약 => INSERT ... SELECT 한 번
+                int count = (int) userRepository.countByShard(shards, shard);
+                if (count == 0) return;
+                long firstId = idBlockAllocator.reserve(IdGenerators.PUSH, count);
+                pushRepository.insertForShard(EntityCode.NOTICE.ordinal(), noticeId, contents, shards, shard, firstId, count);
+                return;
+            } catch (Exception e) {
+                if (attempt > retries) {
+                    // 다시 실행할 수 있도록 (noticeId, shard) 를 남김
+                    log.error("공지 알림 내역 적재 실패, 재실행 필요 (noticeId: {}, shard: {}/{}): {}", noticeId, shard, shards, e.getMessage());
+                    return;
+                }
+                log.warn("공지 알림 내역 적재 실패, 다시 시도 {}/{} (noticeId: {}, shard: {}/{}): {}",
+                        attempt, retries, noticeId, shard, shards, e.getMessage());
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    log.error("공지 알림 내역 적재 중단, 재실행 필요 (noticeId: {}, shard: {}/{})", noticeId, shard, shards);
+                    return;
+                }
+            }
+        }
+    }
+}
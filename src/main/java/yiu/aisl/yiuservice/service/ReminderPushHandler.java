@@ -0,0 +1,102 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Push;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.event.PostEvent;
+import yiu.aisl.yiuservice.event.PostEventHandler;
+import yiu.aisl.yiuservice.event.ReminderDueEvent;
+import yiu.aisl.yiuservice.repository.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 리마인더 시각 도달 => 작성자 + 수락된 신청자에게 글마다 알림 한 번 (멀티캐스트) + 알림 내역 저장 (PostEventBus 스레드)
+// 서버마다 같은 글을 예약해 두므로 (재시작 시 DB 에서 다시 채움) 보내기 전에 (글, 마감 시각) 단위로 선점 => 한 서버만 보냄
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderPushHandler implements PostEventHandler {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    // 선점 유지 시간 = 마감까지 + 여유 (서버 간 시계 차이)
+    private static final Duration CLAIM_MARGIN = Duration.ofMinutes(10);
+
+    private final ReminderScheduler reminderScheduler;
+    private final ClusterLease clusterLease;
+    private final DevicePushSender devicePushSender;
+    private final DeliveryRepository deliveryRepository;
+    private final TaxiRepository taxiRepository;
+    private final Comment_DeliveryRepository comment_deliveryRepository;
+    private final Comment_TaxiRepository comment_taxiRepository;
+    private final PushRepository pushRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional
+    public void handle(PostEvent event) {
+        if (!(event instanceof ReminderDueEvent e)) return;
+
+        Target target = e.type() == EntityCode.DELIVERY ? delivery(e.postId()) : taxi(e.postId());
+        // 글 없음(보관, 삭제) OR 이미 출발(마감)
+        if (target == null || target.state() == PostState.DELETED || !target.due().isAfter(LocalDateTime.now())) return;
+        if (reminderScheduler.rescheduleIfEarly(e.type(), e.postId(), target.due())) return;
+
+        List<Long> applicants = e.type() == EntityCode.DELIVERY
+                ? comment_deliveryRepository.findStudentIdsByDeliveryAndState(e.postId(), ApplyState.ACCEPTED)
+                : comment_taxiRepository.findStudentIdsByTaxiAndState(e.postId(), ApplyState.ACCEPTED);
+        if (applicants.isEmpty()) return;
+
+        // 선점 => 마감 시각까지 유지 (반환하지 않음), 마감 시각이 바뀌면 다른 키 => 새 리마인더
+        String claim = "reminder:" + e.type() + ":" + e.postId() + ":" + target.due();
+        Duration hold = Duration.between(LocalDateTime.now(), target.due()).plus(CLAIM_MARGIN);
+        if (clusterLease.acquire(claim, hold) == null) return;
+
+        Set<Long> recipients = new LinkedHashSet<>();
+        recipients.add(target.writerId());
+        recipients.addAll(applicants);
+
+        long minutes = Math.max(1, Duration.between(LocalDateTime.now(), target.due()).toMinutes());
+        String title = e.type() == EntityCode.DELIVERY ? "같이 배달 주문 알림" : "같이 택시 출발 알림";
+        String contents = "<" + target.title() + "> " + (e.type() == EntityCode.DELIVERY ? "주문" : "출발") + "까지 "
+                + minutes + "분 남았어요! (" + target.due().format(TIME) + ")";
+        devicePushSender.send(recipients, title, contents);
+
+        // 알림 내역 저장
+        List<Push> pushes = new ArrayList<>(recipients.size());
+        for (Long studentId : recipients) {
+            pushes.add(Push.builder()
+                    .user(userRepository.getReferenceById(studentId))
+                    .type(e.type())
+                    .id(e.postId())
+                    .contents(contents)
+                    .build());
+        }
+        pushRepository.saveAll(pushes);
+    }
+
+    private Target delivery(Long dId) {
+        return deliveryRepository.findBydId(dId)
+                .map(d -> new Target(d.getTitle(), d.getDue(), d.getState(), d.getUser().getStudentId()))
+                .orElse(null);
+    }
+
+    private Target taxi(Long tId) {
+        return taxiRepository.findBytId(tId)
+                .map(t -> new Target(t.getTitle(), t.getDue(), t.getState(), t.getUser().getStudentId()))
+                .orElse(null);
+    }
+
+    private record Target(String title, LocalDateTime due, PostState state, Long writerId) {
+    }
+}
@@ -0,0 +1,103 @@
+package yiu.aisl.yiuservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.ReminderTarget;
+import yiu.aisl.yiuservice.event.*;
+import yiu.aisl.yiuservice.repository.DeliveryRepository;
+import yiu.aisl.yiuservice.repository.TaxiRepository;
+import yiu.aisl.yiuservice.util.HashedTimingWheel;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 출발(마감) lead-minutes 분 전 리마인더 예약 => 메모리의 타이밍 휠 (글마다 예약 하나, 예약 O(1), DB 폴링 없음)
+// 신청 수락 => 예약 / 글 수정으로 due 변경 => 다시 예약 / 재시작 => 수락된 신청이 있는 출발 전 글을 DB 에서 한 번 읽어 다시 채움
+// 시각 도달 => ReminderDueEvent 발행 => 이벤트 버스에서 ReminderPushHandler 가 알림
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reminder.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler implements PostEventHandler {
+
+    private final DeliveryRepository deliveryRepository;
+    private final TaxiRepository taxiRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashedTimingWheel<ReminderDueEvent> wheel;
+    private final long leadMillis;
+    private final long tickMillis;
+
+    // 기본 => 1초 tick, 3600칸 (한 바퀴 1시간)
+    public ReminderScheduler(DeliveryRepository deliveryRepository,
+                             TaxiRepository taxiRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${reminder.lead-minutes:10}") long leadMinutes,
+                             @Value("${reminder.tick-ms:1000}") long tickMillis,
+                             @Value("${reminder.wheel-size:3600}") int wheelSize) {
+        this.deliveryRepository = deliveryRepository;
+        this.taxiRepository = taxiRepository;
+        this.eventPublisher = eventPublisher;
+        this.leadMillis = leadMinutes * 60_000;
+        this.tickMillis = tickMillis;
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<ReminderTarget> deliveries = deliveryRepository.findReminderTargets(now, PostState.DELETED, ApplyState.ACCEPTED);
+            List<ReminderTarget> taxis = taxiRepository.findReminderTargets(now, PostState.DELETED, ApplyState.ACCEPTED);
+            deliveries.forEach(target -> schedule(EntityCode.DELIVERY, target.postId(), target.due()));
+            taxis.forEach(target -> schedule(EntityCode.TAXI, target.postId(), target.due()));
+            log.info("리마인더 예약 => 배달 {}건, 택시 {}건", deliveries.size(), taxis.size());
+        }
+        catch (Exception e) {
+            log.warn("리마인더 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void handle(PostEvent event) {
+        if (event instanceof ApplicationAcceptedEvent e) {
+            schedule(e.type(), e.postId(), e.due());
+        }
+        // 예약이 있는 글(수락된 신청이 있는 글)만
+        else if (event instanceof PostDueChangedEvent e && wheel.contains(new ReminderDueEvent(e.type(), e.postId()))) {
+            schedule(e.type(), e.postId(), e.due());
+        }
+    }
+
+    // 이미 출발(마감) => 예약 안 함 / 남은 시간이 lead 보다 짧으면 다음 tick 에 바로
+    public void schedule(EntityCode type, Long postId, LocalDateTime due) {
+        if (due == null || !due.isAfter(LocalDateTime.now())) return;
+        wheel.schedule(new ReminderDueEvent(type, postId), remindAt(due));
+    }
+
+    // 알림 직전 확인 => 수정 이벤트를 놓쳐 due 가 더 늦어진 글은 다시 예약 (true)
+    public boolean rescheduleIfEarly(EntityCode type, Long postId, LocalDateTime due) {
+        if (remindAt(due) <= System.currentTimeMillis() + tickMillis) return false;
+        schedule(type, postId, due);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.tick-ms:1000}")
+    public void tick() {
+        for (ReminderDueEvent event : wheel.advance(System.currentTimeMillis())) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private long remindAt(LocalDateTime due) {
+        return due.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - leadMillis;
+    }
+}
@@ -1,14 +1,18 @@
 package yiu.aisl.yiuservice.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
 import yiu.aisl.yiuservice.dto.NoticeRequest;
 import yiu.aisl.yiuservice.dto.NoticeResponse;
 import yiu.aisl.yiuservice.dto.ReportRequest;
 import yiu.aisl.yiuservice.dto.ReportResponse;
+import yiu.aisl.yiuservice.dto.UserReportStatsResponse;
 import yiu.aisl.yiuservice.exception.CustomException;
 import yiu.aisl.yiuservice.exception.ErrorCode;
 import yiu.aisl.yiuservice.repository.*;
@@ -16,6 +20,7 @@ import yiu.aisl.yiuservice.repository.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,6 +28,7 @@ import java.util.Optional;
 public class ReportService {
 
     private final ReportRepository reportRepository;
+    private final UserReportStatsRepository userReportStatsRepository;
     private final UserRepository userRepository;
 
     private final DeliveryRepository deliveryRepository;
@@ -31,13 +37,27 @@ public class ReportService {
     private final Comment_TaxiRepository comment_taxiRepository;
 
 
-    // 전체 신고 조회 [admin]
-    @Transactional
-    public List<ReportResponse> getList() throws Exception {
-        List<Report> report = reportRepository.findAllByOrderByCreatedAtDesc();
-        List<ReportResponse> getListDTO = new ArrayList<>();
-        report.forEach(s -> getListDTO.add(ReportResponse.GetReportDTO(s)));
-        return getListDTO;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 전체 신고 조회 [admin] => 최신순 페이지 단위
+    @Transactional(readOnly = true)
+    public List<ReportResponse> getList(int page, int size) throws Exception {
+        // 400 - 잘못된 페이지
+        if(page < 0 || size < 1) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
+
+        return reportRepository.findReportSlice(PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE))).getContent();
+    }
+
+    // 유저별 신고 누적 조회 [admin] => 신고 수 많은 순
+    @Transactional(readOnly = true)
+    public List<UserReportStatsResponse> getStats(int page, int size) throws Exception {
+        // 400 - 잘못된 페이지
+        if(page < 0 || size < 1) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
+
+        return userReportStatsRepository.findAllByOrderByReportCountDesc(PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)))
+                .stream()
+                .map(UserReportStatsResponse::GetUserReportStatsDTO)
+                .collect(Collectors.toList());
     }
 
     // 신고 작성 [user]
@@ -51,25 +71,34 @@ public class ReportService {
                 || request.getId() == null)
             throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
-        User fromId = findByStudentId(studentId);
-        User toId = findByStudentId(request.getToId());
-
         // 409 - 자기 자신 신고
-        if(fromId.equals(toId)) throw new CustomException(ErrorCode.CONFLICT);
+        if(studentId.equals(request.getToId())) throw new CustomException(ErrorCode.CONFLICT);
 
-        // 409 - 중복 신고 확인
-        Optional<Report> existingReport = reportRepository.findByFromIdAndToIdAndTypeAndId(fromId, toId, request.getType(), request.getId());
-        if (existingReport.isPresent()) throw new CustomException(ErrorCode.DUPLICATE);
+        // 신고자/피신고자는 참조만 사용 => 조회 쿼리 없이 INSERT 한 번
+        // 중복 신고는 (from_id, to_id, type, id) 유니크 인덱스, 없는 피신고자는 FK가 막아줌
+        User fromId = userRepository.getReferenceById(studentId);
+        User toId = userRepository.getReferenceById(request.getToId());
 
+        Report report = Report.builder()
+                .fromId(fromId)
+                .toId(toId)
+                .contents(request.getContents())
+                .type(request.getType())
+                .id(request.getId())
+                .build();
         try {
-            Report report = Report.builder()
-                    .fromId(fromId)
-                    .toId(toId)
-                    .contents(request.getContents())
-                    .type(request.getType())
-                    .id(request.getId())
-                    .build();
-            reportRepository.save(report);
+            reportRepository.saveAndFlush(report);
+        }
+        catch (DataIntegrityViolationException e) {
+            // 409 - 중복 신고
+            if(isViolated(e, Report.UK_REPORT)) throw new CustomException(ErrorCode.DUPLICATE);
+            // 401 - 피신고자 존재하지 않음 (FK 위반)
+            throw new CustomException(ErrorCode.MEMBER_NOT_EXIST);
+        }
+
+        try {
+            // 신고 집계 갱신 (같은 트랜잭션)
+            userReportStatsRepository.increment(request.getToId(), request.getType());
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -77,6 +106,13 @@ public class ReportService {
         return true;
     }
 
+    // 제약조건 위반 예외가 해당 제약조건 때문인지 확인
+    private boolean isViolated(DataIntegrityViolationException e, String constraintName) {
+        if(e.getCause() instanceof ConstraintViolationException cause && cause.getConstraintName() != null)
+            return cause.getConstraintName().toLowerCase().contains(constraintName);
+        return false;
+    }
+
 
     // 학번으로 유저의 정보를 가져오는 메서드
     public User findByStudentId(Long studentId) {
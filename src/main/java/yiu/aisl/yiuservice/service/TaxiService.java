@@ -1,12 +1,12 @@
 package yiu.aisl.yiuservice.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
@@ -14,8 +14,10 @@ import yiu.aisl.yiuservice.domain.state.PostState;
 import yiu.aisl.yiuservice.dto.*;
 import yiu.aisl.yiuservice.dto.TaxiRequest;
 import yiu.aisl.yiuservice.dto.TaxiResponse;
+import yiu.aisl.yiuservice.event.*;
 import yiu.aisl.yiuservice.exception.CustomException;
 import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
 import yiu.aisl.yiuservice.repository.*;
 import yiu.aisl.yiuservice.security.TokenProvider;
 
@@ -23,71 +25,72 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TaxiService {
 
-    private final FirebaseMessaging firebaseMessaging;
     private final TaxiRepository taxiRepository;
     private final Comment_TaxiRepository comment_taxiRepository;
+    private final TaxiArchiveRepository taxiArchiveRepository;
     private final UserRepository userRepository;
-    private final PushRepository pushRepository;
+    private final ListStreamWriter listStreamWriter;
+    private final PostReadMapper postReadMapper;
+    private final ViewCounter viewCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 택시모집글 조회 [all]
-    @Transactional
-    public List<TaxiResponse> getList() throws Exception {
-        try {
-            List<Taxi> listActive = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.ACTIVE);
-            List<Taxi> listDeleted = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.DELETED);
-            List<Taxi> listFinished = taxiRepository.findByStateOrderByCreatedAtDesc(PostState.FINISHED);
-
-            // 현재 시간과 비교하여 due가 이미 지났다면 상태를 모두 FINISHED로 변경
-            LocalDateTime currentTime = LocalDateTime.now();
-            listFinished.addAll(listActive.stream()
-                    .filter(taxi -> taxi.getDue().isBefore(currentTime))
-                    .map(taxi -> {
-                        taxi.setState(PostState.FINISHED);
-
-                        waitToFinish(taxi); // 나머지 신청글 마감처리
-
-                        return taxi;
-                    })
-                    .collect(Collectors.toList()));
-
-            List<TaxiResponse> getListDTO = new ArrayList<>();
-            getListDTO.addAll(listActive.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
-            getListDTO.addAll(listDeleted.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
-            getListDTO.addAll(listFinished.stream().map(TaxiResponse::GetTaxiDTO).collect(Collectors.toList()));
+    // 목록은 상태별(ACTIVE → DELETED → FINISHED)로 이어서 스트리밍 => 조회만 (마감 처리는 ExpireScheduler)
+    // 마감 시간이 지났지만 아직 ACTIVE 인 글 => FINISHED 목록에 마감 상태로
+    @Transactional(readOnly = true)
+    public StreamingResponseBody getList(MediaType format) throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<Supplier<Stream<TaxiListResponse>>> sources = List.of(
+                () -> ListStreamWriter.stream(postReadMapper.cursorOpenTaxiList(PostState.ACTIVE, now)),
+                () -> ListStreamWriter.stream(postReadMapper.cursorTaxiListByState(PostState.DELETED)),
+                () -> ListStreamWriter.stream(postReadMapper.cursorClosedTaxiList(PostState.FINISHED, PostState.ACTIVE, now))
+                        .map(TaxiService::closed)
+        );
+        return listStreamWriter.write(sources, Function.identity(), format);
+    }
 
-            return getListDTO;
-        } catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+    // 마감 목록의 행 => 마감 처리 전(ACTIVE)이어도 FINISHED 로 응답
+    static TaxiListResponse closed(TaxiListResponse taxi) {
+        taxi.setState(PostState.FINISHED);
+        return taxi;
     }
 
     // 택시모집글 상세조회 [all]
-    public TaxiResponse getDetail(TaxiRequest.DetailDTO request) throws Exception {
+    @Transactional(readOnly = true)
+    public TaxiResponse getDetail(TaxiRequest.DetailDTO request, String viewer) throws Exception {
         // 400 - 데이터 없음
         if(request.getTId().describeConstable().isEmpty()) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
 
-        // 404 - 글 존재하지 않음
-        Taxi taxi = taxiRepository.findBytId(request.getTId()).orElseThrow(() -> {
-            throw new CustomException(ErrorCode.NOT_EXIST);
-        });
+        // 본 테이블에 없으면 보관된 글 조회
+        Taxi taxi = taxiRepository.findDetailBytId(request.getTId()).orElse(null);
+        if (taxi == null) return getArchivedDetail(request.getTId());
 
-        // 현재 시간과 비교하여 due가 이미 지났다면 상태를 FINISHED로 변경
+        // 현재 시간과 비교하여 due가 이미 지났다면 FINISHED 로 응답
+        // 조회는 읽기 전용 트랜잭션 => DB 반영은 ExpireScheduler, 여기서는 응답에만 반영 (읽기 전용 세션이라 flush 안 됨)
         LocalDateTime currentTime = LocalDateTime.now();
-        if (taxi.getDue().isBefore(currentTime)) {
+        if (taxi.getState().equals(PostState.ACTIVE) && taxi.getDue().isBefore(currentTime)) {
             taxi.setState(PostState.FINISHED);
-            waitToFinish(taxi); // 나머지 신청글 마감처리
+            taxi.getComments().stream()
+                    .filter(comment -> comment.getState().equals(ApplyState.WAITING))
+                    .forEach(comment -> comment.setState(ApplyState.FINISHED));
         }
 
         // 409 - 삭제된 글
         if(taxi.getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
 
+        // 조회 수 => Redis 에만 기록 (ViewCounter 가 주기적으로 반영)
+        viewCounter.record(EntityCode.TAXI, taxi.getTId(), viewer);
+
         try {
             TaxiResponse response = TaxiResponse.GetTaxiDetailDTO(taxi);
             return response;
@@ -98,6 +101,19 @@ public class TaxiService {
     }
 
 
+    // 보관된 택시모집글 상세조회 => 마감/삭제 후 상태가 바뀌지 않으므로 조회만
+    private TaxiResponse getArchivedDetail(Long tId) {
+        // 404 - 글 존재하지 않음
+        TaxiArchive taxi = taxiArchiveRepository.findDetailBytId(tId).orElseThrow(() -> {
+            throw new CustomException(ErrorCode.NOT_EXIST);
+        });
+
+        // 409 - 삭제된 글
+        if(taxi.getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
+
+        return TaxiResponse.GetTaxiDetailDTO(taxi);
+    }
+
     // 택시모집글 작성 [writer]
     @Transactional
     public Boolean create(Long studentId, TaxiRequest.CreateDTO request) throws Exception{
@@ -131,6 +147,10 @@ public class TaxiService {
                     .state(request.getState())
                     .build();
             taxiRepository.save(taxi);
+
+            // 커밋 후 이벤트 버스로 (관심 토픽 알림 등)
+            eventPublisher.publishEvent(new PostCreatedEvent(EntityCode.TAXI, taxi.getTId(), studentId,
+                    taxi.getTitle(), null, taxi.getStartCode(), taxi.getEndCode()));
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -165,7 +185,7 @@ public class TaxiService {
 
         // 403 - 권한 없음
         Taxi existingTaxi = optTaxi.get();
-        if(!existingTaxi.getUser().equals(user)) {
+        if(!existingTaxi.getUser().getStudentId().equals(studentId)) {
             throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
         }
 
@@ -173,6 +193,9 @@ public class TaxiService {
         if(existingTaxi.getCurrent() >= request.getMax())
             throw new CustomException(ErrorCode.CONFLICT);
 
+        // 리마인더 시각 변경용
+        boolean dueChanged = !request.getDue().equals(existingTaxi.getDue());
+
         try {
             existingTaxi.setTitle(request.getTitle());
             existingTaxi.setContents(request.getContents());
@@ -184,6 +207,8 @@ public class TaxiService {
             existingTaxi.setEndCode(request.getEndCode());
             existingTaxi.setState(request.getPostState());
             taxiRepository.save(existingTaxi);
+            if(dueChanged)
+                eventPublisher.publishEvent(new PostDueChangedEvent(EntityCode.TAXI, existingTaxi.getTId(), existingTaxi.getDue()));
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -200,23 +225,17 @@ public class TaxiService {
         // 유저 확인 404 포함
         User user = findByStudentId(studentId);
 
-        Taxi taxi = findBytId(request.getTId());
-        Optional<Taxi> optTaxi = taxiRepository.findBytId(request.getTId());
-        Optional<Comment_Taxi> optCommentTaxi = comment_taxiRepository.findByTcId(request.getTId());
-        List<Comment_Taxi> listCommentTaxi = comment_taxiRepository.findByTaxi(taxi);
-
         // 404 - 글 존재하지 않음
-        if(optTaxi.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
+        Taxi existingTaxi = findBytId(request.getTId());
 
         // 403 - 권한 없음(작성인 != 삭제요청인)
-        if(!optTaxi.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!existingTaxi.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
-        // 409 - 아직 진행 중인 신청이 있으면 임의로 삭제 안됨
-        if(listCommentTaxi.stream().anyMatch(s -> !(s.getState().equals(ApplyState.CANCELED) || s.getState().equals(ApplyState.REJECTED))))
+        // 409 - 아직 진행 중인 신청이 있으면 임의로 삭제 안됨 (취소, 거절이 아닌 신청글)
+        if(comment_taxiRepository.existsByTaxiAndStateNotIn(existingTaxi, List.of(ApplyState.CANCELED, ApplyState.REJECTED)))
             throw new CustomException(ErrorCode.CONFLICT);
 
         try {
-            Taxi existingTaxi = optTaxi.get();
             existingTaxi.setState(PostState.DELETED);
             taxiRepository.save(existingTaxi);
             return true;
@@ -240,7 +259,7 @@ public class TaxiService {
         if(optTaxi.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음(작성인 != 마감요청인)
-        if(!optTaxi.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optTaxi.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 이미 글이 마감된 상태 or 삭제된 상태
         if(optTaxi.get().getState().equals(PostState.FINISHED) || optTaxi.get().getState().equals(PostState.DELETED)) throw new CustomException(ErrorCode.CONFLICT);
@@ -251,6 +270,7 @@ public class TaxiService {
             taxiRepository.save(taxi);
 
             waitToFinish(taxi); // 나머지 신청글 마감처리
+            eventPublisher.publishEvent(new PostFinishedEvent(EntityCode.TAXI, taxi.getTId(), studentId));
 
             return true;
         }
@@ -268,42 +288,39 @@ public class TaxiService {
         // 유저 확인 404 포함
         User user = findByStudentId(studentId);
         Taxi taxi = findBytId(request.getTId());
-        List<Comment_Taxi> listCommentTaxi = comment_taxiRepository.findByUserAndTaxi(user, taxi);
 
-        // 404 - 글 state가 DELETED OR FINISHED
-        if(taxi.getState().equals(PostState.DELETED) || taxi.getState().equals(PostState.FINISHED))
+        // 404 - 글 state가 DELETED OR FINISHED (마감 시간이 지났지만 아직 마감 처리 전인 글 포함)
+        if(taxi.getState().equals(PostState.DELETED) || taxi.getState().equals(PostState.FINISHED)
+                || !taxi.getDue().isAfter(LocalDateTime.now()))
             throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음 => 자신의 글에 신청한 경우(작성인 == 신청인)
-        if(taxi.getUser().equals(user))
+        if(taxi.getUser().getStudentId().equals(studentId))
             throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
-        // 신청 전적이 있는 상태에서
-        if(!listCommentTaxi.isEmpty()) {
-            // 409 - 신청 => 대기 상태 OR 수락 상태가 1개라도 있으면
-            if(listCommentTaxi.stream().anyMatch(s -> s.getState().equals(ApplyState.WAITING) || s.getState().equals(ApplyState.ACCEPTED)))
-                throw new CustomException(ErrorCode.CONFLICT);
-        }
+        // 409 - 신청 => 대기 상태 OR 수락 상태인 신청글이 이미 있으면
+        if(comment_taxiRepository.existsByUserAndTaxiAndStateIn(user, taxi, List.of(ApplyState.WAITING, ApplyState.ACCEPTED)))
+            throw new CustomException(ErrorCode.CONFLICT);
 
+        Comment_Taxi comment = Comment_Taxi.builder()
+                .user(user)
+                .taxi(taxi)
+                .contents(request.getContents())
+                .details(request.getDetails())
+                .number(request.getNumber())
+                .state(request.getState())
+                .build();
         try {
-            Comment_Taxi comment = Comment_Taxi.builder()
-                    .user(user)
-                    .taxi(taxi)
-                    .contents(request.getContents())
-                    .details(request.getDetails())
-                    .number(request.getNumber())
-                    .state(request.getState())
-                    .build();
-            comment_taxiRepository.save(comment);
-
-            Long receiver = taxi.getUser().getStudentId(); // 모집자
-            String title = "같이 택시 New 신청";
-            String contents = user.getNickname() + "님께서 <" + taxi.getTitle() + "> 같이 택시를 신청했어요!";
-            sendPush(receiver, taxi.getTId(), title, contents);
+            comment_taxiRepository.saveAndFlush(comment);
         }
-        catch (Exception e) {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        catch (DataIntegrityViolationException e) {
+            // 409 - 동시에 들어온 중복 신청 (진행 중 신청글 유니크 인덱스)
+            throw new CustomException(ErrorCode.CONFLICT);
         }
+
+        // 모집자에게 알림 => 커밋 후 이벤트 버스에서
+        eventPublisher.publishEvent(new ApplicationSubmittedEvent(EntityCode.TAXI, taxi.getTId(), comment.getTcId(),
+                studentId, taxi.getUser().getStudentId(), taxi.getTitle(), user.getNickname()));
         return true;
     }
 
@@ -320,7 +337,7 @@ public class TaxiService {
         if(optComment_Taxi.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 권한 없음(신청자 != 신청글 삭제 요청인)
-        if(!optComment_Taxi.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optComment_Taxi.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 취소 불가 => 대기 상태가 아닌 모든 경우
         if(!optComment_Taxi.get().getState().equals(ApplyState.WAITING))
@@ -330,6 +347,8 @@ public class TaxiService {
             Comment_Taxi comment_Taxi = optComment_Taxi.get();
             comment_Taxi.setState(ApplyState.CANCELED);
             comment_taxiRepository.save(comment_Taxi);
+            eventPublisher.publishEvent(new ApplicationCanceledEvent(EntityCode.TAXI, comment_Taxi.getTaxi().getTId(),
+                    comment_Taxi.getTcId(), studentId));
             return true;
         }
         catch (Exception e) {
@@ -351,7 +370,7 @@ public class TaxiService {
         if(optTaxi.isEmpty()) throw new CustomException(ErrorCode.NOT_EXIST);
 
         // 403 - 신청 수락 권한 없음
-        if(!optTaxi.get().getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!optTaxi.get().getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 글이 활성화 상태가 아님 OR 신청이 대기 상태가 아님(수락, 삭제, 거절 등)
         if(!optTaxi.get().getState().equals(PostState.ACTIVE) || !optComment_Taxi.get().getState().equals(ApplyState.WAITING))
@@ -368,22 +387,23 @@ public class TaxiService {
             Comment_Taxi comment_Taxi = optComment_Taxi.get();
             comment_Taxi.setState(ApplyState.ACCEPTED);
             comment_taxiRepository.save(comment_Taxi);
+            Taxi taxi = optTaxi.get();
 
             // current 값 증가
-            optTaxi.get().setCurrent(current + number);
+            taxi.setCurrent(current + number);
+            eventPublisher.publishEvent(new SeatsChangedEvent(taxi.getTId(), current + number, max));
+
+            // 신청자에게 알림 => 커밋 후 이벤트 버스에서
+            eventPublisher.publishEvent(new ApplicationAcceptedEvent(EntityCode.TAXI, taxi.getTId(), comment_Taxi.getTcId(),
+                    comment_Taxi.getUser().getStudentId(), taxi.getTitle(), user.getNickname(), taxi.getDue()));
 
             // 만약 current + number == max => 마감 => state를 FINISHED로 업데이트
-            if(optTaxi.get().getMax().equals(current + number)) {
-                optTaxi.get().setState(PostState.FINISHED);
-                Taxi taxi = optTaxi.get();
+            if(taxi.getMax().equals(current + number)) {
+                taxi.setState(PostState.FINISHED);
                 waitToFinish(taxi); // 나머지 신청글 마감처리
-
-                Long receiver = optComment_Taxi.get().getUser().getStudentId(); // 신청자
-                String title = "같이 택시 신청 수락";
-                String contents = user.getNickname() + "님께서 <" + taxi.getTitle() + "> 같이 택시를 수락했어요!";
-                sendPush(receiver, taxi.getTId(), title, contents);
+                eventPublisher.publishEvent(new PostFinishedEvent(EntityCode.TAXI, taxi.getTId(), studentId));
             }
-            taxiRepository.save(optTaxi.get());
+            taxiRepository.save(taxi);
 
             return true;
         }
@@ -409,7 +429,7 @@ public class TaxiService {
         Taxi taxi = findBytId(optComment_Taxi.get().getTaxi().getTId());
 
         // 403 - 거절 수락 권한 없음
-        if(!taxi.getUser().equals(user)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+        if(!taxi.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
 
         // 409 - 글이 활성화 상태가 아님 OR 신청이 대기 상태가 아님(수락, 삭제, 거절 등)
         if(!taxi.getState().equals(PostState.ACTIVE) || !optComment_Taxi.get().getState().equals(ApplyState.WAITING))
@@ -420,10 +440,9 @@ public class TaxiService {
             comment_Taxi.setState(ApplyState.REJECTED);
             comment_taxiRepository.save(comment_Taxi);
 
-            Long receiver = optComment_Taxi.get().getUser().getStudentId(); // 신청자
-            String title = "같이 택시 신청 거절";
-            String contents = user.getNickname() + "님께서 <" + taxi.getTitle() + "> 같이 택시를 거절했어요!";
-            sendPush(receiver, taxi.getTId(), title, contents);
+            // 신청자에게 알림 => 커밋 후 이벤트 버스에서
+            eventPublisher.publishEvent(new ApplicationRejectedEvent(EntityCode.TAXI, taxi.getTId(), comment_Taxi.getTcId(),
+                    comment_Taxi.getUser().getStudentId(), taxi.getTitle(), user.getNickname()));
             return true;
         }
         catch (Exception e) {
@@ -456,36 +475,4 @@ public class TaxiService {
         waitingComments.forEach(comment -> comment.setState(ApplyState.FINISHED));
         comment_taxiRepository.saveAll(waitingComments);
     }
-
-    // 푸시 처리
-    public void sendPush(Long studentId, Long id, String title, String contents) throws Exception {
-        User user = userRepository.findByStudentId(studentId).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
-        String fcm = user.getFcm();
-
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(contents)
-                .build();
-
-        Message message = Message.builder()
-                .setToken(fcm)
-                .setNotification(notification)
-                .build();
-
-        try {
-            // 알림 보내기
-            firebaseMessaging.send(message);
-
-            // 알림 내역 저장
-            Push push = Push.builder()
-                    .user(user)
-                    .type(EntityCode.TAXI)
-                    .id(id)
-                    .contents(contents)
-                    .build();
-            pushRepository.save(push);
-        } catch (FirebaseMessagingException e) {
-            e.printStackTrace();
-        }
-    }
 }
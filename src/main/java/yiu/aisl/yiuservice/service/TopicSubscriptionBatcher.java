@@ -0,0 +1,87 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.TopicManagementResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// FCM 토픽 구독/해제 모아서 처리
+// (토픽, 토큰) 마다 마지막 요청만 남김 => 주기적으로 토픽별 최대 1000개 토큰씩 한 번의 API 호출
+// 종료 시 남은 요청을 한 번 더 보냄 (배포 중 로그인, 관심 등록한 기기가 구독에서 빠지지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopicSubscriptionBatcher implements DisposableBean {
+
+    // 토픽 관리 API 한 번에 보낼 수 있는 최대 토큰 수
+    private static final int MAX_TOKENS_PER_CALL = 1000;
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    // (토픽, 토큰) => true 구독, false 해제
+    private final ConcurrentHashMap<TopicToken, Boolean> pending = new ConcurrentHashMap<>();
+
+    public void subscribe(String token, String topic) {
+        pending.put(new TopicToken(topic, token), true);
+    }
+
+    public void unsubscribe(String token, String topic) {
+        pending.put(new TopicToken(topic, token), false);
+    }
+
+    @Scheduled(fixedDelayString = "${fcm.topic-batch.interval-ms:1000}")
+    public void flush() {
+        // (토픽, 구독 여부) 별 토큰 목록
+        // 꺼내는 사이 같은 키가 다시 들어오면 remove(key, value) 가 실패 => 다음 주기에 처리
+        Map<TopicToken, Boolean> taken = new HashMap<>();
+        Map<String, List<String>> subscribes = new HashMap<>();
+        Map<String, List<String>> unsubscribes = new HashMap<>();
+        for (Map.Entry<TopicToken, Boolean> entry : pending.entrySet()) {
+            TopicToken key = entry.getKey();
+            Boolean subscribe = entry.getValue();
+            if (!pending.remove(key, subscribe)) continue;
+            taken.put(key, subscribe);
+            (subscribe ? subscribes : unsubscribes).computeIfAbsent(key.topic(), t -> new ArrayList<>()).add(key.token());
+        }
+
+        subscribes.forEach((topic, tokens) -> send(topic, tokens, true, taken));
+        unsubscribes.forEach((topic, tokens) -> send(topic, tokens, false, taken));
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        if (!pending.isEmpty()) log.warn("종료 시 토픽 구독/해제 {}건 보내지 못함", pending.size());
+    }
+
+    private void send(String topic, List<String> tokens, boolean subscribe, Map<TopicToken, Boolean> taken) {
+        for (int from = 0; from < tokens.size(); from += MAX_TOKENS_PER_CALL) {
+            List<String> chunk = tokens.subList(from, Math.min(from + MAX_TOKENS_PER_CALL, tokens.size()));
+            try {
+                TopicManagementResponse response = subscribe
+                        ? firebaseMessaging.subscribeToTopic(chunk, topic)
+                        : firebaseMessaging.unsubscribeFromTopic(chunk, topic);
+                // 토큰 단위 실패 (만료된 토큰 등) => 재시도하지 않음
+                if (response.getFailureCount() > 0)
+                    log.warn("토픽 {} {} 실패 {}건", topic, subscribe ? "구독" : "해제", response.getFailureCount());
+            } catch (FirebaseMessagingException e) {
+                // 호출 자체 실패 => 다음 주기에 재시도 (그 사이 새 요청이 들어왔으면 그것을 우선)
+                log.warn("토픽 {} {} 요청 실패: {}", topic, subscribe ? "구독" : "해제", e.getMessage());
+                chunk.forEach(token -> {
+                    TopicToken key = new TopicToken(topic, token);
+                    pending.putIfAbsent(key, taken.get(key));
+                });
+            }
+        }
+    }
+
+    private record TopicToken(String topic, String token) {
+    }
+}
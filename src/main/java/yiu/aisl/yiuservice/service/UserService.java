@@ -1,8 +1,10 @@
 package yiu.aisl.yiuservice.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import yiu.aisl.yiuservice.domain.*;
 import yiu.aisl.yiuservice.domain.state.ApplyState;
 import yiu.aisl.yiuservice.domain.state.EntityCode;
@@ -10,6 +12,7 @@ import yiu.aisl.yiuservice.domain.state.PostState;
 import yiu.aisl.yiuservice.dto.*;
 import yiu.aisl.yiuservice.exception.CustomException;
 import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
 import yiu.aisl.yiuservice.repository.*;
 
 import java.time.LocalDateTime;
@@ -28,9 +31,16 @@ public class UserService {
     private final TaxiRepository taxiRepository;
     private final Comment_TaxiRepository comment_taxiRepository;
     private final PushRepository pushRepository;
+    private final NicknameFilter nicknameFilter;
+    private final InterestRepository interestRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final PostReadMapper postReadMapper;
+
+    @Value("${interest.max-per-user:20}")
+    private long maxInterests;
 
     // <API> 내 정보 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public UserResponse getMyInfo(Long studentId) throws Exception {
         try {
             User user =  findByStudentId(studentId);
@@ -47,88 +57,22 @@ public class UserService {
     }
 
     // <API> 내 활성화 글 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ActiveEntity> getMyActiveList(Long studentId) throws Exception {
-        User user = findByStudentId(studentId);
+        // 404 - 회원 없음
+        findByStudentId(studentId);
 
         try {
             LocalDateTime currentTime = LocalDateTime.now();
             Comparator<ActiveEntity> comparator = Comparator.comparing(
                     ActiveEntity::getCreatedAt).reversed();
 
-            // Delivery
-            List<Delivery> listDeliveryActive = deliveryRepository.findByUser(user);
-            for(Delivery delivery : listDeliveryActive) {
-                if(delivery.getDue().isBefore(currentTime)) {
-                    delivery.setState(PostState.FINISHED);
-                    deliveryRepository.save(delivery);
-                    List<Comment_Delivery> comments = comment_deliveryRepository.findByDelivery(delivery);
-                    for(Comment_Delivery comment : comments) {
-                        comment.setState(ApplyState.FINISHED);
-                        comment_deliveryRepository.save(comment);
-                    }
-                }
-            }
-            List<ActiveEntity> deliveryGetListDTO = listDeliveryActive.stream()
-                    .filter(delivery -> delivery.getState() == PostState.ACTIVE)
-                    .map(DeliveryResponse::GetDeliveryDTO)
-                    .sorted(comparator)
-                    .collect(Collectors.toList());
-
-            // Comment_Delivery
-            List<Comment_Delivery> listCommentDelivery = comment_deliveryRepository.findByUser(user);
-            List<Comment_Delivery> listCommentDeliveryWaiting = listCommentDelivery.stream()
-                    .filter(comment -> comment.getState() == ApplyState.WAITING)
-                    .collect(Collectors.toList());
-            List<Comment_Delivery> listCommentDeliveryAccepted = listCommentDelivery.stream()
-                    .filter(comment -> comment.getState() == ApplyState.ACCEPTED && comment.getDelivery().getDue().isAfter(currentTime))
-                    .collect(Collectors.toList());
-            List<ActiveEntity> commentDeliveryGetListDTO = Stream.concat(
-                    listCommentDeliveryWaiting.stream(),
-                    listCommentDeliveryAccepted.stream()
-            ).map(comment -> {
-                Comment_DeliveryResponse dto = Comment_DeliveryResponse.GetCommentDeliveryDTO(comment);
-                // Convert Delivery to DeliveryResponse and set it
-                dto.setDelivery(DeliveryResponse.GetDeliveryDTO(comment.getDelivery()));
-                return dto;
-            }).sorted(comparator).collect(Collectors.toList());
-
-            // Taxi
-            List<Taxi> listTaxiActive = taxiRepository.findByUser(user);
-            for(Taxi taxi : listTaxiActive) {
-                if(taxi.getDue().isBefore(currentTime)) {
-                    taxi.setState(PostState.FINISHED);
-                    taxiRepository.save(taxi);
-                    List<Comment_Taxi> comments = comment_taxiRepository.findByTaxi(taxi);
-                    for(Comment_Taxi comment : comments) {
-                        comment.setState(ApplyState.FINISHED);
-                        comment_taxiRepository.save(comment);
-                    }
-                }
-            }
-            List<ActiveEntity> taxiGetListDTO = listTaxiActive.stream()
-                    .filter(taxi -> taxi.getState() == PostState.ACTIVE)
-                    .map(TaxiResponse::GetTaxiDTO)
-                    .sorted(comparator)
-                    .collect(Collectors.toList());
-
-            // Comment_Taxi
-            List<Comment_Taxi> listCommentTaxi = comment_taxiRepository.findByUser(user);
-            List<Comment_Taxi> listCommentTaxiWaiting = listCommentTaxi.stream()
-                    .filter(comment -> comment.getState() == ApplyState.WAITING)
-                    .collect(Collectors.toList());
-            List<Comment_Taxi> listCommentTaxiAccepted = listCommentTaxi.stream()
-                    .filter(comment -> comment.getState() == ApplyState.ACCEPTED && comment.getTaxi().getDue().isAfter(currentTime))
-                    .collect(Collectors.toList());
-            List<ActiveEntity> commentTaxiGetListDTO = Stream.concat(
-                            listCommentTaxiWaiting.stream(),
-                            listCommentTaxiAccepted.stream()
-            ).map(comment -> {
-                Comment_TaxiResponse dto = Comment_TaxiResponse.GetCommentTaxiDTO(comment);
-                // Convert Taxi to TaxiResponse and set it
-                dto.setTaxi(TaxiResponse.GetTaxiDTO(comment.getTaxi()));
-                return dto;
-            }).sorted(comparator).collect(Collectors.toList());
+            // 마감 처리는 ExpireScheduler => 조회는 쓰지 않고 마감 시간이 지난 글을 SQL 에서 제외
+            // 작성한 진행 중인 글, 활성화 신청글 => SQL 결과를 DTO 로 바로 매핑 (PostReadMapper)
+            List<ActiveEntity> deliveryGetListDTO = new ArrayList<>(postReadMapper.findDeliveriesByWriter(studentId, PostState.ACTIVE, currentTime));
+            List<ActiveEntity> commentDeliveryGetListDTO = new ArrayList<>(postReadMapper.findActiveDeliveryApplies(studentId, ApplyState.WAITING, ApplyState.ACCEPTED, currentTime));
+            List<ActiveEntity> taxiGetListDTO = new ArrayList<>(postReadMapper.findTaxisByWriter(studentId, PostState.ACTIVE, currentTime));
+            List<ActiveEntity> commentTaxiGetListDTO = new ArrayList<>(postReadMapper.findActiveTaxiApplies(studentId, ApplyState.WAITING, ApplyState.ACCEPTED, currentTime));
 
             // Combine all lists into one
             List<ActiveEntity> combinedList = Stream.of(deliveryGetListDTO, commentDeliveryGetListDTO, taxiGetListDTO, commentTaxiGetListDTO)
@@ -145,7 +89,7 @@ public class UserService {
     }
 
     // <API> 내 모든 글 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ActiveEntity> getMyAllPostList(Long studentId) throws Exception {
         User user = findByStudentId(studentId);
 
@@ -155,50 +99,27 @@ public class UserService {
             Comparator<ActiveEntity> comparator = Comparator.comparing(
                     ActiveEntity::getCreatedAt).reversed();
 
-            // Delivery
-            List<Delivery> listDeliveryActive = deliveryRepository.findByUser(user);
-            for(Delivery delivery : listDeliveryActive) {
-                if(delivery.getDue().isBefore(currentTime)) {
-                    delivery.setState(PostState.FINISHED);
-                    deliveryRepository.save(delivery);
-                    List<Comment_Delivery> comments = comment_deliveryRepository.findByDelivery(delivery);
-                    for(Comment_Delivery comment : comments) {
-                        comment.setState(ApplyState.FINISHED);
-                        comment_deliveryRepository.save(comment);
-                    }
-                }
-            }
-
-            // Taxi
-            List<Taxi> listTaxiActive = taxiRepository.findByUser(user);
-            for(Taxi taxi : listTaxiActive) {
-                if(taxi.getDue().isBefore(currentTime)) {
-                    taxi.setState(PostState.FINISHED);
-                    taxiRepository.save(taxi);
-                    List<Comment_Taxi> comments = comment_taxiRepository.findByTaxi(taxi);
-                    for(Comment_Taxi comment : comments) {
-                        comment.setState(ApplyState.FINISHED);
-                        comment_taxiRepository.save(comment);
-                    }
-                }
-            }
-
+            // 마감 처리는 ExpireScheduler => 처리 전인 글도 마감(FINISHED)으로 보여줌
             // All lists
             List<ActiveEntity> allDeliveryList = deliveryRepository.findByUser(user).stream()
                     .filter(deliveryResponse -> deliveryResponse.getState() != PostState.DELETED)
                     .map(DeliveryResponse::GetDeliveryDTO)
+                    .map(delivery -> expired(delivery, currentTime))
                     .collect(Collectors.toList());
-            List<ActiveEntity> allCommentDeliveryList = comment_deliveryRepository.findByUser(user).stream()
+            List<ActiveEntity> allCommentDeliveryList = comment_deliveryRepository.findWithDeliveryByUser(user).stream()
                     .filter(commentDeliveryResponse -> commentDeliveryResponse.getState() != ApplyState.CANCELED)
                     .map(Comment_DeliveryResponse::GetCommentDeliveryDTO)
+                    .map(comment -> expired(comment, currentTime))
                     .collect(Collectors.toList());
             List<ActiveEntity> allTaxiList = taxiRepository.findByUser(user).stream()
                     .filter(taxiResponse -> taxiResponse.getState() != PostState.DELETED)
                     .map(TaxiResponse::GetTaxiDTO)
+                    .map(taxi -> expired(taxi, currentTime))
                     .collect(Collectors.toList());
-            List<ActiveEntity> allCommentTaxiList = comment_taxiRepository.findByUser(user).stream()
+            List<ActiveEntity> allCommentTaxiList = comment_taxiRepository.findWithTaxiByUser(user).stream()
                     .filter(commentTaxiResponse -> commentTaxiResponse.getState() != ApplyState.CANCELED)
                     .map(Comment_TaxiResponse::GetCommentTaxiDTO)
+                    .map(comment -> expired(comment, currentTime))
                     .collect(Collectors.toList());
 
             // Combine all lists into one
@@ -220,6 +141,36 @@ public class UserService {
         }
     }
 
+    // 마감 시간이 지났지만 아직 마감 처리 전인 글 => 응답에서만 FINISHED (ExpireService 와 같은 결과)
+    private static DeliveryResponse expired(DeliveryResponse delivery, LocalDateTime now) {
+        if (delivery.getState() == PostState.ACTIVE && !delivery.getDue().isAfter(now))
+            delivery.setState(PostState.FINISHED);
+        return delivery;
+    }
+
+    private static TaxiResponse expired(TaxiResponse taxi, LocalDateTime now) {
+        if (taxi.getState() == PostState.ACTIVE && !taxi.getDue().isAfter(now))
+            taxi.setState(PostState.FINISHED);
+        return taxi;
+    }
+
+    // 마감 처리 전인 글의 대기(WAITING) 신청 => FINISHED
+    private static Comment_DeliveryResponse expired(Comment_DeliveryResponse comment, LocalDateTime now) {
+        DeliveryResponse delivery = comment.getDelivery();
+        if (comment.getState() == ApplyState.WAITING && delivery.getState() == PostState.ACTIVE && !delivery.getDue().isAfter(now))
+            comment.setState(ApplyState.FINISHED);
+        expired(delivery, now);
+        return comment;
+    }
+
+    private static Comment_TaxiResponse expired(Comment_TaxiResponse comment, LocalDateTime now) {
+        TaxiResponse taxi = comment.getTaxi();
+        if (comment.getState() == ApplyState.WAITING && taxi.getState() == PostState.ACTIVE && !taxi.getDue().isAfter(now))
+            comment.setState(ApplyState.FINISHED);
+        expired(taxi, now);
+        return comment;
+    }
+
 
     // <API> 닉네임 재설정
     @Transactional
@@ -232,13 +183,18 @@ public class UserService {
         User user = userRepository.findByStudentId(studentId).orElseThrow(()
                 -> new CustomException(ErrorCode.MEMBER_NOT_EXIST));
 
-        // 409 - 닉네임 이미 존재
-        if (userRepository.findByNickname(request.getNickname()).isPresent())
+        // 409 - 닉네임 이미 존재 (닉네임 필터에 없으면 DB 조회 생략)
+        if (nicknameFilter.mightExist(request.getNickname()) && userRepository.existsByNickname(request.getNickname()))
             throw new CustomException(ErrorCode.DUPLICATE);
 
         try {
             user.setNickname(request.getNickname());
-            userRepository.save(user);
+            userRepository.saveAndFlush(user);
+            nicknameFilter.put(user.getNickname());
+        }
+        catch (DataIntegrityViolationException e) {
+            // 409 - 동시에 같은 닉네임으로 변경한 경우 unique 제약에서 걸림
+            throw new CustomException(ErrorCode.DUPLICATE);
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -247,7 +203,7 @@ public class UserService {
     }
 
     // <API> 푸시 내역
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PushResponse> getMyAllPushList(Long studentId) throws Exception {
         User user = findByStudentId(studentId);
         List<Push> push = pushRepository.findByUser(user);
@@ -256,6 +212,84 @@ public class UserService {
         return getListDTO;
     }
 
+    // <API> 관심 조건 목록
+    @Transactional(readOnly = true)
+    public List<InterestResponse> getMyInterestList(Long studentId) throws Exception {
+        User user = findByStudentId(studentId);
+        List<Interest> interests = interestRepository.findByUser(user);
+        List<InterestResponse> getListDTO = new ArrayList<>();
+        interests.forEach(s -> getListDTO.add(InterestResponse.GetInterestDTO(s)));
+        return getListDTO;
+    }
+
+    // <API> 관심 조건 추가 => 유저의 모든 기기를 토픽에 구독
+    public Boolean addInterest(Long studentId, InterestRequest.AddDTO request) throws Exception {
+        boolean delivery = request.getFoodCode() != null;
+        boolean taxi = request.getStartCode() != null && request.getEndCode() != null;
+
+        // 400 - 음식 코드 또는 출발지, 목적지 코드 중 하나만
+        if(delivery == taxi) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
+
+        User user = findByStudentId(studentId);
+
+        // 409 - 최대 개수 초과
+        if(interestRepository.countByUser(user) >= maxInterests) throw new CustomException(ErrorCode.EXCESS);
+
+        Interest interest = delivery
+                ? Interest.builder()
+                    .user(user)
+                    .type(EntityCode.DELIVERY)
+                    .foodCode(request.getFoodCode())
+                    .topic(Interest.deliveryTopic(request.getFoodCode()))
+                    .build()
+                : Interest.builder()
+                    .user(user)
+                    .type(EntityCode.TAXI)
+                    .startCode(request.getStartCode())
+                    .endCode(request.getEndCode())
+                    .topic(Interest.taxiTopic(request.getStartCode(), request.getEndCode()))
+                    .build();
+
+        try {
+            interestRepository.saveAndFlush(interest);
+        }
+        catch (DataIntegrityViolationException e) {
+            // 409 - 이미 추가한 조건
+            throw new CustomException(ErrorCode.DUPLICATE);
+        }
+        catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        deviceTokenService.subscribe(studentId, interest.getTopic());
+        return true;
+    }
+
+    // <API> 관심 조건 삭제 => 토픽 구독 해제
+    public Boolean deleteInterest(Long studentId, InterestRequest.interestIdDTO request) throws Exception {
+        // 400 - 데이터 없음
+        if(request.getInterestId() == null) throw new CustomException(ErrorCode.INSUFFICIENT_DATA);
+
+        User user = findByStudentId(studentId);
+
+        // 404 - 조건 없음
+        Interest interest = interestRepository.findById(request.getInterestId())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_EXIST));
+
+        // 403 - 본인 조건이 아님
+        if(!interest.getUser().getStudentId().equals(studentId)) throw new CustomException(ErrorCode.ACCESS_NO_AUTH);
+
+        try {
+            interestRepository.delete(interest);
+        }
+        catch (Exception e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        deviceTokenService.unsubscribe(studentId, interest.getTopic());
+        return true;
+    }
+
     // 학번으로 유저의 정보를 가져오는 메서드
     public User findByStudentId(Long studentId) {
         return userRepository.findByStudentId(studentId)
@@ -0,0 +1,172 @@
+package yiu.aisl.yiuservice.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import yiu.aisl.yiuservice.config.CustomUserDetails;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// 모집글 조회 수 => 상세조회마다 Redis 에만 기록, 주기적으로 모아서 MySQL 에 반영 (조회가 행 잠금 UPDATE 가 되지 않도록)
+// view:total:<type>:<id> => 마지막 반영 이후 조회 수 (INCR), view:unique:<type>:<id> => 조회자 HyperLogLog
+// view:dirty:<type> => 반영할 글 id (SPOP 으로 꺼내므로 서버가 여러 대여도 한 서버만 반영)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCounter {
+
+    private static final String TOTAL = "view:total:";
+    private static final String UNIQUE = "view:unique:";
+    private static final String DIRTY = "view:dirty:";
+    // 증가분 꺼내기 + 순 조회자 수 => "증가분:조회자 수"
+    private static final RedisScript<String> TAKE = new DefaultRedisScript<>(
+            "local views = redis.call('GETDEL', KEYS[1]) or '0' " +
+                    "return views .. ':' .. redis.call('PFCOUNT', KEYS[2])", String.class);
+    // 프록시(로드밸런서) 주소 => 사설망, loopback (Tomcat RemoteIpValve 기본값과 같은 범위)
+    private static final Pattern INTERNAL_PROXIES = Pattern.compile(
+            "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|192\\.168\\.\\d{1,3}\\.\\d{1,3}|169\\.254\\.\\d{1,3}\\.\\d{1,3}|127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}" +
+                    "|100\\.6[4-9]\\.\\d{1,3}\\.\\d{1,3}|100\\.[7-9]\\d\\.\\d{1,3}\\.\\d{1,3}|100\\.1[0-1]\\d\\.\\d{1,3}\\.\\d{1,3}|100\\.12[0-7]\\.\\d{1,3}\\.\\d{1,3}" +
+                    "|172\\.1[6-9]\\.\\d{1,3}\\.\\d{1,3}|172\\.2\\d\\.\\d{1,3}\\.\\d{1,3}|172\\.3[0-1]\\.\\d{1,3}\\.\\d{1,3}" +
+                    "|0:0:0:0:0:0:0:1|::1|fe[89ab]\\p{XDigit}:.*|f[cd]\\p{XDigit}{2}+:.*");
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 마지막 조회 후 이 기간이 지나면 순 조회자 집계 삭제 (DB 의 viewer_count 는 유지)
+    @Value("${view.unique-ttl-days:30}")
+    private long uniqueTtlDays;
+
+    // 한 번에 반영할 글 수 (UPDATE batch 크기)
+    @Value("${view.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    @Value("${view.redis-timeout-ms:3000}")
+    private long redisTimeoutMillis;
+
+    // 조회자 => 로그인 유저는 학번, 아니면 IP
+    public static String viewer(CustomUserDetails user, HttpServletRequest request) {
+        return user != null ? "u:" + user.getStudentId() : "ip:" + clientAddress(request);
+    }
+
+    // 프록시 뒤에서는 remoteAddr 가 프록시 주소 => 모든 비로그인 조회자가 한 명으로 집계됨
+    // 프록시에서 온 요청만 X-Forwarded-For 를 오른쪽부터 읽어 프록시가 아닌 첫 주소를 사용 (클라이언트가 넣은 왼쪽 값은 믿지 않음)
+    // server.forward-headers-strategy 를 켜면 remoteAddr 가 이미 클라이언트 주소 => 그대로 사용
+    static String clientAddress(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || remote == null || !INTERNAL_PROXIES.matcher(remote).matches()) return remote;
+
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) continue;
+            if (!INTERNAL_PROXIES.matcher(hop).matches()) return hop;
+            remote = hop;
+        }
+        // 모두 내부 주소 => 가장 왼쪽(가장 먼) 주소
+        return remote;
+    }
+
+    // 상세조회 1번 기록 => 결과를 기다리지 않음 (Redis 장애여도 조회 응답은 그대로)
+    // 조회 수를 먼저 올리고 dirty 에 넣음 => 반영 중에 들어온 조회는 다음 반영에 포함
+    public void record(EntityCode type, Long id, String viewer) {
+        String key = type.ordinal() + ":" + id;
+        Mono.when(
+                        redisTemplate.opsForValue().increment(TOTAL + key)
+                                .then(redisTemplate.opsForSet().add(DIRTY + type.ordinal(), id.toString())),
+                        redisTemplate.opsForHyperLogLog().add(UNIQUE + key, viewer)
+                                .then(redisTemplate.expire(UNIQUE + key, Duration.ofDays(uniqueTtlDays))))
+                .subscribe(null, e -> log.debug("조회 수 기록 실패 {} {}: {}", type, id, e.getMessage()));
+    }
+
+    @Scheduled(fixedDelayString = "${view.flush-interval-ms:60000}")
+    public void flush() {
+        flush(EntityCode.DELIVERY, "delivery", "d_id");
+        flush(EntityCode.TAXI, "taxi", "t_id");
+    }
+
+    // dirty 글 id 를 flushBatchSize 개씩 꺼내서 조회 수 증가분, 순 조회자 수를 UPDATE batch 한 번으로 반영
+    // SPOP 으로 꺼낸 뒤 반영 전에 실패 => 꺼낸 id 를 dirty 에 되돌리고, 이미 꺼낸 증가분은 다시 INCRBY (다음 반영에 포함)
+    private void flush(EntityCode type, String table, String idColumn) {
+        String dirty = DIRTY + type.ordinal();
+        List<String> ids;
+        do {
+            try {
+                ids = redisTemplate.opsForSet().pop(dirty, flushBatchSize).collectList()
+                        .block(Duration.ofMillis(redisTimeoutMillis));
+            }
+            catch (Exception e) {
+                log.debug("조회 수 반영 건너뜀 {}: {}", type, e.getMessage());
+                return;
+            }
+            if (ids == null || ids.isEmpty()) return;
+
+            // 글마다 증가분 꺼내기(GETDEL) + 순 조회자 수(PFCOUNT) => 스크립트 하나로 (둘 중 하나만 실행되지 않도록)
+            // 받은 결과는 바로 rows 에 모음 => 중간에 실패해도 이미 꺼낸 증가분을 되돌릴 수 있음
+            List<Object[]> rows = Collections.synchronizedList(new ArrayList<>());
+            try {
+                Flux.fromIterable(ids)
+                        .flatMap(id -> {
+                            String key = type.ordinal() + ":" + id;
+                            return redisTemplate.execute(TAKE, List.of(TOTAL + key, UNIQUE + key)).next()
+                                    .map(counts -> {
+                                        String[] split = counts.split(":");
+                                        return new Object[]{Long.parseLong(split[0]), Long.parseLong(split[1]), Long.parseLong(id)};
+                                    });
+                        })
+                        .doOnNext(rows::add)
+                        .then()
+                        .block(Duration.ofMillis(redisTimeoutMillis));
+            }
+            catch (Exception e) {
+                log.warn("조회 수 집계 조회 실패 {} ({}건): {}", type, ids.size(), e.getMessage());
+                restore(type, ids, rows);
+                return;
+            }
+
+            try {
+                jdbcTemplate.batchUpdate("UPDATE " + table + " SET view_count = view_count + ?, viewer_count = GREATEST(viewer_count, ?) " +
+                        "WHERE " + idColumn + " = ?", rows);
+            }
+            catch (Exception e) {
+                // DB 반영 실패 => 꺼낸 증가분을 Redis 에 되돌려서 다음 반영에 포함
+                log.warn("조회 수 반영 실패 {} ({}건): {}", type, rows.size(), e.getMessage());
+                restore(type, ids, rows);
+                return;
+            }
+        } while (ids.size() == flushBatchSize);
+    }
+
+    // 꺼낸 증가분 INCRBY, 꺼낸 id 전체 SADD
+    // 되돌리기도 실패 (Redis 장애) => 그 증가분은 유실, 로그로 남김
+    private void restore(EntityCode type, List<String> ids, List<Object[]> rows) {
+        List<Object[]> taken;
+        synchronized (rows) {
+            taken = new ArrayList<>(rows);
+        }
+        try {
+            Flux.fromIterable(taken)
+                    .filter(row -> (Long) row[0] > 0)
+                    .flatMap(row -> redisTemplate.opsForValue().increment(TOTAL + type.ordinal() + ":" + row[2], (Long) row[0]))
+                    .then(redisTemplate.opsForSet().add(DIRTY + type.ordinal(), ids.toArray(String[]::new)))
+                    .block(Duration.ofMillis(redisTimeoutMillis));
+        }
+        catch (Exception e) {
+            log.warn("조회 수 되돌리기 실패 {} ({}건): {}", type, ids.size(), e.getMessage());
+        }
+    }
+}
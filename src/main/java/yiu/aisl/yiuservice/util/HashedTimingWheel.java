@@ -0,0 +1,95 @@
+package yiu.aisl.yiuservice.util;
+
+import java.util.*;
+
+// 해시 타이밍 휠 => 시간을 tick 단위 칸(slot)으로 나눈 원형 배열, 예약 시각의 tick % 칸 수 위치에 넣음
+// 예약, 취소 O(1) / advance() 는 지난 tick 의 칸만 훑음 (한 바퀴 이상 남은 항목은 그대로 둠)
+// 같은 키를 다시 예약하면 이전 예약은 취소 => 키마다 예약은 하나
+// 여러 스레드에서 schedule/cancel/advance 해도 안전 (synchronized)
+public class HashedTimingWheel<K> {
+    private final long tickMillis;
+    private final List<List<Entry<K>>> slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    // 다음에 처리할 tick
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int slotCount, long startMillis) {
+        if(tickMillis < 1 || slotCount < 1) throw new IllegalArgumentException("tickMillis, slotCount >= 1");
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for(int i = 0; i < slotCount; i++) slots.add(new ArrayList<>());
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // deadlineMillis 이후 첫 advance() 에서 만료 (이미 지난 시각 => 다음 advance())
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> previous = entries.remove(key);
+        if(previous != null) previous.cancelled = true;
+
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick);
+        Entry<K> entry = new Entry<>(key, tick);
+        entries.put(key, entry);
+        slot(tick).add(entry);
+    }
+
+    // 칸에서는 advance() 때 빠짐
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if(entry == null) return false;
+        entry.cancelled = true;
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // nowMillis 까지 지난 tick 의 칸을 처리 => 만료된 키 반환 (예약 시각 순)
+    // 한 바퀴 이상 멈췄다가 호출돼도 칸 수만큼만 훑음
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        if(nowTick < currentTick) return List.of();
+
+        List<Entry<K>> expired = new ArrayList<>();
+        long visits = Math.min(nowTick - currentTick + 1, slots.size());
+        for(long i = 0; i < visits; i++) {
+            Iterator<Entry<K>> iterator = slot(currentTick + i).iterator();
+            while(iterator.hasNext()) {
+                Entry<K> entry = iterator.next();
+                if(entry.cancelled) {
+                    iterator.remove();
+                }
+                else if(entry.tick <= nowTick) {
+                    iterator.remove();
+                    entries.remove(entry.key);
+                    expired.add(entry);
+                }
+            }
+        }
+        currentTick = nowTick + 1;
+
+        expired.sort(Comparator.comparingLong(entry -> entry.tick));
+        List<K> keys = new ArrayList<>(expired.size());
+        for(Entry<K> entry : expired) keys.add(entry.key);
+        return keys;
+    }
+
+    private List<Entry<K>> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long tick;
+        private boolean cancelled;
+
+        private Entry(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import yiu.aisl.yiuservice.domain.IdGenerators;
+
+// 성능 측정용 데이터 적재 => 테이블마다 INSERT ... SELECT 한 번 (H2 system_range)
+// 배달, 택시, 공지, 배달/택시 신청글 각각 ROWS 건
+@RequiredArgsConstructor
+public class BenchmarkSeeder implements ApplicationRunner {
+
+    public static final int ROWS = 50_000;
+    public static final int USERS = 1_000;
+    public static final long FIRST_USER = 300000001L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        jdbcTemplate.update("insert into user (student_id, nickname, pwd, warn, created_at, updated_at) " +
+                "select " + FIRST_USER + " + x - 1, concat('b', x), '{noop}pw', 0, now(), now() from system_range(1, " + USERS + ")");
+
+        // 10% 삭제, 30% 마감, 나머지 진행 중
+        String state = "case when mod(x, 10) = 0 then 0 when mod(x, 10) <= 3 then 2 else 1 end";
+        String author = FIRST_USER + " + mod(x, " + USERS + ")";
+        String due = "dateadd('HOUR', case when mod(x, 10) <= 3 then -1 else 1 + mod(x, 72) end, now())";
+        String createdAt = "dateadd('MINUTE', -x, now())";
+
+        jdbcTemplate.update("insert into delivery (d_id, student_id, title, contents, due, state, food, food_code, link, location, location_code, created_at, updated_at) " +
+                "select x, " + author + ", concat('배달 ', x), repeat('내용 ', 100), " + due + ", " + state + ", " +
+                "concat('음식 ', x), mod(x, 20), concat('https://example.com/', x), concat('위치 ', x), mod(x, 10), " + createdAt + ", " + createdAt + " " +
+                "from system_range(1, " + ROWS + ")");
+        jdbcTemplate.update("insert into taxi (t_id, student_id, title, contents, due, state, current, max, start, start_code, end, end_code, created_at, updated_at) " +
+                "select x, " + author + ", concat('택시 ', x), repeat('내용 ', 100), " + due + ", " + state + ", " +
+                "1, 4, concat('출발 ', x), mod(x, 10), concat('도착 ', x), mod(x, 15), " + createdAt + ", " + createdAt + " " +
+                "from system_range(1, " + ROWS + ")");
+        jdbcTemplate.update("insert into notice (notice_id, title, contents, created_at, updated_at) " +
+                "select x, concat('공지 ', x), repeat('공지 내용 ', 50), " + createdAt + ", " + createdAt + " " +
+                "from system_range(1, " + ROWS + ")");
+
+        // 글마다 다른 유저의 신청글 1개 (대기, 수락, 취소 순서로)
+        String applicant = FIRST_USER + " + mod(x + 1, " + USERS + ")";
+        String applyState = "case mod(x, 3) when 0 then 1 when 1 then 2 else 0 end";
+        jdbcTemplate.update("insert into comment_delivery (dc_id, d_id, student_id, contents, details, state, created_at, updated_at) " +
+                "select x, x, " + applicant + ", concat('신청 ', x), '상세', " + applyState + ", " + createdAt + ", " + createdAt + " " +
+                "from system_range(1, " + ROWS + ")");
+        jdbcTemplate.update("insert into comment_taxi (tc_id, t_id, student_id, contents, details, number, state, created_at, updated_at) " +
+                "select x, x, " + applicant + ", concat('신청 ', x), '상세', 1, " + applyState + ", " + createdAt + ", " + createdAt + " " +
+                "from system_range(1, " + ROWS + ")");
+
+        jdbcTemplate.execute("alter table delivery alter column d_id restart with " + (ROWS + 1));
+        jdbcTemplate.execute("alter table taxi alter column t_id restart with " + (ROWS + 1));
+        jdbcTemplate.execute("alter table notice alter column notice_id restart with " + (ROWS + 1));
+        jdbcTemplate.update("update " + IdGenerators.TABLE + " set " + IdGenerators.VALUE_COLUMN + " = ? where " + IdGenerators.NAME_COLUMN + " in (?, ?)",
+                ROWS + 1, IdGenerators.COMMENT_DELIVERY, IdGenerators.COMMENT_TAXI);
+    }
+}
@@ -0,0 +1,14 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@TestConfiguration
+public class BenchmarkTestConfig {
+
+    @Bean
+    public BenchmarkSeeder benchmarkSeeder(JdbcTemplate jdbcTemplate) {
+        return new BenchmarkSeeder(jdbcTemplate);
+    }
+}
@@ -0,0 +1,104 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import yiu.aisl.yiuservice.service.MainService;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// /main 응답 (배달, 택시, 공지 각 5만 건) => JSON vs CBOR vs Smile 크기, 직렬화/파싱 CPU 시간
+// 기본 test 에서는 제외 => ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Import(BenchmarkTestConfig.class)
+class EncodingBenchmarkTest {
+
+    private static final int WARM_UP = 3;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MainService mainService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Test
+    @DisplayName("/main 응답 크기, 직렬화/파싱 CPU 측정")
+    void encode() throws Exception {
+        Map<String, List<?>> payload = mainService.getList();
+
+        Result json = measure(objectMapper, payload);
+        Result cbor = measure(cborConverter.getObjectMapper(), payload);
+        Result smile = measure(smileConverter.getObjectMapper(), payload);
+
+        System.out.printf("[benchmark] /main encoding (%d rows x 3)%n", BenchmarkSeeder.ROWS);
+        System.out.printf("[benchmark]   json : %s%n", json);
+        System.out.printf("[benchmark]   cbor : %s%n", cbor);
+        System.out.printf("[benchmark]   smile: %s%n", smile);
+
+        assertThat(cbor.bytes()).isLessThan(json.bytes());
+        assertThat(smile.bytes()).isLessThan(json.bytes());
+    }
+
+    private Result measure(ObjectMapper mapper, Object payload) throws Exception {
+        byte[] encoded = null;
+        for (int i = 0; i < WARM_UP; i++) {
+            encoded = mapper.writeValueAsBytes(payload);
+            mapper.readTree(encoded);
+        }
+
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoded = mapper.writeValueAsBytes(payload);
+        }
+        long writeNanos = THREADS.getCurrentThreadCpuTime() - cpu;
+
+        cpu = THREADS.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            mapper.readTree(encoded);
+        }
+        long readNanos = THREADS.getCurrentThreadCpuTime() - cpu;
+
+        return new Result(encoded.length, writeNanos / ROUNDS, readNanos / ROUNDS);
+    }
+
+    record Result(long bytes, long writeNanos, long readNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("size=%d KB, serialize cpu=%d ms, parse cpu=%d ms",
+                    bytes >> 10, writeNanos / 1_000_000, readNanos / 1_000_000);
+        }
+    }
+}
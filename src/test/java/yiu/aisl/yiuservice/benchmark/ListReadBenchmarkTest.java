@@ -0,0 +1,189 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.dto.Comment_DeliveryResponse;
+import yiu.aisl.yiuservice.dto.Comment_TaxiResponse;
+import yiu.aisl.yiuservice.dto.DeliveryResponse;
+import yiu.aisl.yiuservice.dto.TaxiResponse;
+import yiu.aisl.yiuservice.mapper.PostReadMapper;
+import yiu.aisl.yiuservice.repository.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록, 내 활성화 글 조회 => JPA (JPQL 생성자 표현식, 엔티티 + fetch join) vs MyBatis (PostReadMapper)
+// 기본 test 에서는 제외 => ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Import(BenchmarkTestConfig.class)
+class ListReadBenchmarkTest {
+
+    private static final int WARM_UP = 3;
+    private static final int ROUNDS = 5;
+    // 내 활성화 글은 한 번 조회가 짧음 => 유저 여러 명을 이어서 조회
+    private static final int ACTIVE_USERS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private PostReadMapper postReadMapper;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private TaxiRepository taxiRepository;
+
+    @Autowired
+    private Comment_DeliveryRepository comment_deliveryRepository;
+
+    @Autowired
+    private Comment_TaxiRepository comment_taxiRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("배달, 택시 목록 (상태별 3번씩) => JPA vs MyBatis")
+    void list() {
+        compare("list", this::listJpa, this::listMyBatis);
+    }
+
+    @Test
+    @DisplayName("내 활성화 글 => JPA vs MyBatis")
+    void active() {
+        compare("active", this::activeJpa, this::activeMyBatis);
+    }
+
+    private void compare(String name, LongSupplier jpa, LongSupplier myBatis) {
+        for (int i = 0; i < WARM_UP; i++) {
+            measure(jpa);
+            measure(myBatis);
+        }
+
+        Result jpaResult = measure(jpa);
+        Result myBatisResult = measure(myBatis);
+        for (int i = 1; i < ROUNDS; i++) {
+            jpaResult = jpaResult.plus(measure(jpa));
+            myBatisResult = myBatisResult.plus(measure(myBatis));
+        }
+
+        System.out.printf("[benchmark] %s%n", name);
+        System.out.printf("[benchmark]   jpa    : %s%n", jpaResult.per(ROUNDS));
+        System.out.printf("[benchmark]   mybatis: %s%n", myBatisResult.per(ROUNDS));
+
+        assertThat(myBatisResult.rows()).isEqualTo(jpaResult.rows());
+    }
+
+    private long listJpa() {
+        long rows = 0;
+        for (PostState state : new PostState[]{PostState.ACTIVE, PostState.DELETED, PostState.FINISHED}) {
+            rows += deliveryRepository.findListByState(state).size();
+            rows += taxiRepository.findListByState(state).size();
+        }
+        return rows;
+    }
+
+    private long listMyBatis() {
+        long rows = 0;
+        for (PostState state : new PostState[]{PostState.ACTIVE, PostState.DELETED, PostState.FINISHED}) {
+            rows += postReadMapper.findDeliveryListByState(state).size();
+            rows += postReadMapper.findTaxiListByState(state).size();
+        }
+        return rows;
+    }
+
+    // 이전 UserService.getMyActiveList 와 같은 방식 => 엔티티 조회 후 Java 에서 거르고 DTO 변환
+    private long activeJpa() {
+        LocalDateTime now = LocalDateTime.now();
+        long rows = 0;
+        for (int i = 0; i < ACTIVE_USERS; i++) {
+            User user = userRepository.findByStudentId(BenchmarkSeeder.FIRST_USER + i).orElseThrow();
+            rows += deliveryRepository.findByUser(user).stream()
+                    .filter(delivery -> delivery.getState() == PostState.ACTIVE)
+                    .map(DeliveryResponse::GetDeliveryDTO)
+                    .count();
+            rows += comment_deliveryRepository.findWithDeliveryByUser(user).stream()
+                    .filter(comment -> comment.getState() == ApplyState.WAITING
+                            || (comment.getState() == ApplyState.ACCEPTED && comment.getDelivery().getDue().isAfter(now)))
+                    .map(Comment_DeliveryResponse::GetCommentDeliveryDTO)
+                    .count();
+            rows += taxiRepository.findByUser(user).stream()
+                    .filter(taxi -> taxi.getState() == PostState.ACTIVE)
+                    .map(TaxiResponse::GetTaxiDTO)
+                    .count();
+            rows += comment_taxiRepository.findWithTaxiByUser(user).stream()
+                    .filter(comment -> comment.getState() == ApplyState.WAITING
+                            || (comment.getState() == ApplyState.ACCEPTED && comment.getTaxi().getDue().isAfter(now)))
+                    .map(Comment_TaxiResponse::GetCommentTaxiDTO)
+                    .count();
+        }
+        return rows;
+    }
+
+    private long activeMyBatis() {
+        LocalDateTime now = LocalDateTime.now();
+        long rows = 0;
+        for (int i = 0; i < ACTIVE_USERS; i++) {
+            long studentId = BenchmarkSeeder.FIRST_USER + i;
+            rows += postReadMapper.findDeliveriesByWriter(studentId, PostState.ACTIVE, now).size();
+            rows += postReadMapper.findActiveDeliveryApplies(studentId, ApplyState.WAITING, ApplyState.ACCEPTED, now).size();
+            rows += postReadMapper.findTaxisByWriter(studentId, PostState.ACTIVE, now).size();
+            rows += postReadMapper.findActiveTaxiApplies(studentId, ApplyState.WAITING, ApplyState.ACCEPTED, now).size();
+        }
+        return rows;
+    }
+
+    // 읽기 전용 트랜잭션 안에서 실행 => 할당량, CPU 시간
+    private Result measure(LongSupplier query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long rows = template.execute(status -> query.getAsLong());
+        return new Result(rows,
+                THREADS.getCurrentThreadAllocatedBytes() - allocated,
+                THREADS.getCurrentThreadCpuTime() - cpu);
+    }
+
+    record Result(long rows, long allocatedBytes, long cpuNanos) {
+
+        Result plus(Result other) {
+            return new Result(rows, allocatedBytes + other.allocatedBytes, cpuNanos + other.cpuNanos);
+        }
+
+        String per(int rounds) {
+            return String.format("rows=%d, allocated=%d MB, cpu=%d ms",
+                    rows, allocatedBytes / rounds >> 20, cpuNanos / rounds / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.Notice;
+import yiu.aisl.yiuservice.service.MainService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MainService.getList (배달, 택시, 공지 각 5만 건) => 읽기 전용 트랜잭션 vs 읽기/쓰기 트랜잭션
+// 기본 test 에서는 제외 => ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Import(BenchmarkTestConfig.class)
+class MainListBenchmarkTest {
+
+    private static final int WARM_UP = 3;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MainService mainService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("getList 메모리, CPU 측정")
+    void getList() {
+        for (int i = 0; i < WARM_UP; i++) {
+            measure(true);
+            measure(false);
+        }
+
+        Result readOnly = measure(true);
+        Result readWrite = measure(false);
+        for (int i = 1; i < ROUNDS; i++) {
+            readOnly = readOnly.plus(measure(true));
+            readWrite = readWrite.plus(measure(false));
+        }
+
+        System.out.printf("[benchmark] MainService.getList (%d rows x 3)%n", BenchmarkSeeder.ROWS);
+        System.out.printf("[benchmark]   read-only : %s%n", readOnly.per(ROUNDS));
+        System.out.printf("[benchmark]   read-write: %s%n", readWrite.per(ROUNDS));
+
+        assertThat(readOnly.rows()).isEqualTo(readWrite.rows());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 FlushMode.MANUAL, 읽기 전용 세션 => 불러온 엔티티의 스냅샷이 없다")
+    void readOnlySessionKeepsNoSnapshot() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            getListUnchecked();
+
+            Session session = entityManager.unwrap(Session.class);
+            Notice notice = entityManager.find(Notice.class, 1L);
+            assertThat(session.isDefaultReadOnly()).isTrue();
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isReadOnly(notice)).isTrue();
+        });
+    }
+
+    // 트랜잭션 안에서 getList 실행 => 할당량, CPU 시간, 커밋 직전 남아 있는 힙(영속성 컨텍스트 포함)
+    private Result measure(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+
+        System.gc();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long[] retained = new long[1];
+
+        Map<String, List<?>> result = template.execute(status -> {
+            Map<String, List<?>> list = getListUnchecked();
+            System.gc();
+            retained[0] = MEMORY.getHeapMemoryUsage().getUsed();
+            return list;
+        });
+
+        long rows = result.values().stream().mapToLong(List::size).sum();
+        return new Result(rows,
+                THREADS.getCurrentThreadAllocatedBytes() - allocated,
+                THREADS.getCurrentThreadCpuTime() - cpu,
+                retained[0]);
+    }
+
+    private Map<String, List<?>> getListUnchecked() {
+        try {
+            return mainService.getList();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Result(long rows, long allocatedBytes, long cpuNanos, long retainedBytes) {
+
+        Result plus(Result other) {
+            return new Result(rows, allocatedBytes + other.allocatedBytes, cpuNanos + other.cpuNanos, retainedBytes + other.retainedBytes);
+        }
+
+        String per(int rounds) {
+            return String.format("rows=%d, allocated=%d MB, cpu=%d ms, retained heap=%d MB",
+                    rows, allocatedBytes / rounds >> 20, cpuNanos / rounds / 1_000_000, retainedBytes / rounds >> 20);
+        }
+    }
+}
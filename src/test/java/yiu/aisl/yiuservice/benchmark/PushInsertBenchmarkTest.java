@@ -0,0 +1,109 @@
+package yiu.aisl.yiuservice.benchmark;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.domain.Push;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 알림 내역 N 건 저장 => 행마다 INSERT (IDENTITY 와 같은 왕복 수) vs pooled id + JDBC batch
+// 기본 test 에서는 제외 => ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Import(BenchmarkTestConfig.class)
+class PushInsertBenchmarkTest {
+
+    private static final int WARM_UP = 2;
+    private static final int ROUNDS = 5;
+    private static final int PUSHES = 5_000;
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Push 저장 처리량, INSERT 문 수 측정")
+    void insertPushes() {
+        for (int i = 0; i < WARM_UP; i++) {
+            measure(1);
+            measure(null);
+        }
+
+        Result perRow = measure(1);
+        Result batched = measure(null);
+        for (int i = 1; i < ROUNDS; i++) {
+            perRow = perRow.plus(measure(1));
+            batched = batched.plus(measure(null));
+        }
+
+        System.out.printf("[benchmark] Push insert (%d rows)%n", PUSHES);
+        System.out.printf("[benchmark]   per-row : %s%n", perRow.per(ROUNDS));
+        System.out.printf("[benchmark]   batched : %s%n", batched.per(ROUNDS));
+
+        assertThat(batched.statements()).isLessThan(perRow.statements() / 10);
+    }
+
+    // batchSize == null => 설정값(hibernate.jdbc.batch_size), 1 => batch 없이 행마다 실행
+    private Result measure(Integer batchSize) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        template.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            User user = entityManager.getReference(User.class, BenchmarkSeeder.FIRST_USER);
+            for (int i = 0; i < PUSHES; i++) {
+                entityManager.persist(Push.builder().user(user).type(EntityCode.NOTICE).id((long) i).contents("알림 " + i).build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+        long nanos = System.nanoTime() - start;
+
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return new Result(statements, nanos);
+    }
+
+    record Result(long statements, long nanos) {
+
+        Result plus(Result other) {
+            return new Result(statements + other.statements, nanos + other.nanos);
+        }
+
+        String per(int rounds) {
+            long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos / rounds));
+            return String.format("statements=%d, time=%d ms, %d rows/s",
+                    statements / rounds, millis, PUSHES * 1000L / millis);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package yiu.aisl.yiuservice.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import yiu.aisl.yiuservice.config.CustomUserDetails;
+import yiu.aisl.yiuservice.domain.User;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary, 복제본을 각각 H2 메모리 DB 로 두고 어느 쪽에서 읽었는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (lag bigint)");
+        new JdbcTemplate(replica).update("insert into replica_lag values (0)");
+
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), "select lag from replica_lag", "lag", 5);
+        lagMonitor.check();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, lagMonitor, new ReadYourWrites(5000));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        for (DataSource dataSource : List.of(primary, replica)) {
+            new JdbcTemplate(dataSource).execute("shutdown");
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 읽는다")
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readTransaction.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 SQL 은 primary 로 간다")
+    void writeTransactionUsesPrimary() {
+        assertThat(writeTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기도 primary 로 간다")
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("update replica_lag set lag = 60");
+        lagMonitor.check();
+
+        assertThat(readTransaction.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 유저의 읽기는 primary, 다른 유저의 읽기는 복제본으로 간다")
+    void readYourWritesPinsWriterToPrimary() {
+        login(200000000L);
+        writeTransaction.execute(status -> node());
+        assertThat(readTransaction.execute(status -> node())).isEqualTo("primary");
+
+        login(200000001L);
+        assertThat(readTransaction.execute(status -> node())).isEqualTo("replica");
+    }
+
+    // 어느 DB 에서 읽었는지
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static void login(Long studentId) {
+        CustomUserDetails user = new CustomUserDetails(User.builder().studentId(studentId).build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
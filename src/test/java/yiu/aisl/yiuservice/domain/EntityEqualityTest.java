@@ -0,0 +1,88 @@
+package yiu.aisl.yiuservice.domain;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔티티 equals, hashCode 는 pk 만 봄 => 연관 엔티티, 지연 로딩 컬렉션을 건드리면 예외로 드러남
+class EntityEqualityTest {
+
+    private static final long WRITER = 202033013L;
+
+    @Test
+    @DisplayName("같은 pk 의 글은 같고, 비교 중 댓글 컬렉션과 작성자를 읽지 않는다")
+    void postEqualityIgnoresAssociations() {
+        Delivery delivery = delivery(1L);
+        Delivery sameRow = delivery(1L);
+
+        assertThat(delivery).isEqualTo(sameRow);
+        assertThat(delivery).hasSameHashCodeAs(sameRow);
+        assertThat(delivery).isNotEqualTo(delivery(2L));
+    }
+
+    @Test
+    @DisplayName("작성자 확인(학번 비교)은 프록시의 pk 만 읽는다")
+    void ownershipCheckReadsOnlyKey() {
+        Delivery delivery = delivery(1L);
+
+        assertThat(delivery.getUser().getStudentId().equals(WRITER)).isTrue();
+        assertThat(delivery.getUser()).isEqualTo(User.builder().studentId(WRITER).build());
+    }
+
+    @Test
+    @DisplayName("저장 전(pk 없음) 엔티티는 자기 자신과만 같고, Set 에 넣은 뒤 pk 가 생겨도 찾을 수 있다")
+    void transientEntityInSet() {
+        Taxi taxi = Taxi.builder().user(uninitializedUser()).comments(uninitializedList()).build();
+        Set<Taxi> taxis = new HashSet<>(Set.of(taxi));
+
+        assertThat(taxi).isNotEqualTo(Taxi.builder().build());
+        taxi.setTId(10L);
+        assertThat(taxis).contains(taxi);
+    }
+
+    private static Delivery delivery(Long dId) {
+        return Delivery.builder().dId(dId).user(uninitializedUser()).comments(uninitializedList()).build();
+    }
+
+    // 초기화되지 않은 User 프록시 => pk 외의 값을 읽으면 예외
+    private static User uninitializedUser() {
+        return new User() {
+            @Override
+            public Long getStudentId() {
+                return WRITER;
+            }
+
+            @Override
+            public String getNickname() {
+                throw new LazyInitializationException("user");
+            }
+
+            @Override
+            public String getPwd() {
+                throw new LazyInitializationException("user");
+            }
+        };
+    }
+
+    // 초기화되지 않은 지연 로딩 컬렉션
+    private static <T> List<T> uninitializedList() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                throw new LazyInitializationException("comments");
+            }
+
+            @Override
+            public int size() {
+                throw new LazyInitializationException("comments");
+            }
+        };
+    }
+}
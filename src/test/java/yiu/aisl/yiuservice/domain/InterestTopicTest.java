@@ -0,0 +1,29 @@
+package yiu.aisl.yiuservice.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관심 조건 => FCM 토픽 이름
+class InterestTopicTest {
+
+    // FCM 토픽 이름에 쓸 수 있는 문자 (/topics/ 제외)
+    private static final Pattern FCM_TOPIC = Pattern.compile("[a-zA-Z0-9_.~%-]{1,900}");
+
+    @Test
+    @DisplayName("음식 코드, 경로별 토픽 이름은 FCM 규칙에 맞는다")
+    void topicsAreValid() {
+        assertThat(Interest.deliveryTopic(3L)).isEqualTo("delivery-food-3").matches(FCM_TOPIC);
+        assertThat(Interest.taxiTopic(1L, 12L)).isEqualTo("taxi-route-1-12").matches(FCM_TOPIC);
+    }
+
+    @Test
+    @DisplayName("출발지, 목적지 코드가 이어 붙어도 경로끼리 겹치지 않는다")
+    void routesDoNotCollide() {
+        assertThat(Interest.taxiTopic(1L, 23L)).isNotEqualTo(Interest.taxiTopic(12L, 3L));
+        assertThat(Interest.taxiTopic(1L, 2L)).isNotEqualTo(Interest.taxiTopic(2L, 1L));
+    }
+}
@@ -0,0 +1,59 @@
+package yiu.aisl.yiuservice.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import yiu.aisl.yiuservice.security.AdaptiveConcurrencyLimiter.Priority;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 초기 한도 10, BULK 는 한도의 60%
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 200, 0.6, 0.9, 1.5, 0.2, 10, 600);
+
+    @Test
+    @DisplayName("한도에 가까워지면 목록 조회(BULK)부터 버리고, 작성/신청(CRITICAL)은 한도를 넘어도 통과")
+    void shedsBulkFirst() {
+        for (int i = 0; i < 6; i++) assertThat(limiter.tryAcquire(Priority.BULK)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.BULK)).isFalse();
+
+        for (int i = 0; i < 4; i++) assertThat(limiter.tryAcquire(Priority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.NORMAL)).isFalse();
+
+        assertThat(limiter.tryAcquire(Priority.CRITICAL)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 일정하면 한도를 늘리고, 느려지면 줄인다")
+    void followsLatency() {
+        // 한도를 채운 상태 유지 => 늘릴 근거가 있는 상태
+        for (int i = 0; i < 10; i++) limiter.tryAcquire(Priority.CRITICAL);
+
+        sample(200, 5);
+        int steady = limiter.limit();
+        assertThat(steady).isGreaterThan(10);
+
+        sample(200, 50);
+        assertThat(limiter.limit()).isLessThan(steady);
+    }
+
+    @Test
+    @DisplayName("실패(5xx, 예외)는 한도를 바로 backoff-ratio 배로 줄인다")
+    void backsOffOnFailure() {
+        limiter.tryAcquire(Priority.CRITICAL);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        assertThat(limiter.limit()).isEqualTo(9);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private void sample(int count, long millis) {
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire(Priority.CRITICAL);
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(millis), false);
+        }
+    }
+}
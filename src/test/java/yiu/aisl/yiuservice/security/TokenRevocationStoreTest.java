@@ -0,0 +1,164 @@
+package yiu.aisl.yiuservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Redis 는 mock => 필터에서 걸러지면 Redis 를 조회하지 않는지, Redis 장애 시 동작, 적재 중 들어온 폐기
+// 적재할 키 목록 = redisKeys, SCAN 중 실행할 동작 = duringScan
+class TokenRevocationStoreTest {
+
+    private static final Long STUDENT_ID = 202033013L;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final TokenProvider tokenProvider = mock(TokenProvider.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final TokenRevocationStore store = new TokenRevocationStore(redisTemplate, tokenProvider);
+
+    private final List<String> redisKeys = new ArrayList<>();
+    private Runnable duringScan = () -> {};
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(store, "falsePositiveRate", 0.001);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(tokenProvider.getAccessTokenValidTime()).thenReturn(Duration.ofMinutes(30).toMillis());
+
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(keyCommands.scan(any())).thenReturn(cursor);
+        doAnswer(invocation -> {
+            Consumer<byte[]> action = invocation.getArgument(0);
+            duringScan.run();
+            redisKeys.forEach(key -> action.accept(key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+    }
+
+    @Test
+    @DisplayName("필터 적재 전 => 항상 Redis 조회")
+    void checksRedisBeforeFirstLoad() {
+        when(redisTemplate.hasKey("revoked:jti:a")).thenReturn(true);
+
+        assertThat(store.isRevoked(claims("a", System.currentTimeMillis()), "token")).isTrue();
+        assertThat(store.isRevoked(claims("b", System.currentTimeMillis()), "token")).isFalse();
+        verify(redisTemplate).hasKey("revoked:jti:b");
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰 => Redis 조회 없이 유효, 있는 토큰만 Redis 로 확인")
+    void skipsRedisOnFilterMiss() {
+        redisKeys.add("revoked:jti:a");
+        store.rebuild();
+        when(redisTemplate.hasKey("revoked:jti:a")).thenReturn(true);
+
+        assertThat(store.isRevoked(claims("b", System.currentTimeMillis()), "token")).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+        verify(valueOperations, never()).get(anyString());
+
+        assertThat(store.isRevoked(claims("a", System.currentTimeMillis()), "token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 => 유효한 토큰으로 처리, 적재 실패 => 이전 필터 유지")
+    void fallsBackOnRedisFailure() {
+        redisKeys.add("revoked:jti:a");
+        store.rebuild();
+        when(redisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(store.isRevoked(claims("a", System.currentTimeMillis()), "token")).isFalse();
+
+        // 적재 도중 실패 => 일부만 적재된 필터 대신 이전 필터
+        redisKeys.set(0, "revoked:jti:b");
+        duringScan = () -> { throw new RedisConnectionFailureException("down"); };
+        store.rebuild();
+        clearInvocations(redisTemplate);
+
+        store.isRevoked(claims("a", System.currentTimeMillis()), "token");
+        verify(redisTemplate).hasKey("revoked:jti:a");
+        clearInvocations(redisTemplate);
+        store.isRevoked(claims("b", System.currentTimeMillis()), "token");
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("적재 중 들어온 폐기 => 새 필터에도 남음")
+    void keepsRevocationsDuringRebuild() {
+        store.rebuild();
+        // SCAN 이 이미 지나간 뒤 폐기된 토큰 => 적재 결과에는 없음
+        duringScan = () -> store.onRevoked("jti:late");
+        store.rebuild();
+        when(redisTemplate.hasKey("revoked:jti:late")).thenReturn(true);
+
+        assertThat(store.isRevoked(claims("late", System.currentTimeMillis()), "token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 => 변경 전 발급 토큰만 폐기, 같은 초에 다시 발급받은 토큰은 유효")
+    void revokesByMillisecond() {
+        store.rebuild();
+        store.revokeAll(STUDENT_ID);
+        ArgumentCaptor<String> revokedAt = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("revoked:user:" + STUDENT_ID), revokedAt.capture(), any(Duration.class));
+        when(valueOperations.get("revoked:user:" + STUDENT_ID)).thenReturn(revokedAt.getValue());
+        long cutoff = Long.parseLong(revokedAt.getValue());
+
+        assertThat(store.isRevoked(claims("before", cutoff - 1), "token")).isTrue();
+        assertThat(store.isRevoked(claims("after", cutoff + 1), "token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("iatMs 가 없는 토큰, 초 단위로 기록된 기준 시각 => 같은 초는 폐기")
+    void readsSecondResolutionValues() {
+        long cutoff = (System.currentTimeMillis() / 1000) * 1000 + 500;
+        when(valueOperations.get("revoked:user:" + STUDENT_ID)).thenReturn(String.valueOf(cutoff / 1000));
+
+        assertThat(store.isRevoked(legacyClaims("old", cutoff - 1000), "token")).isTrue();
+        assertThat(store.isRevoked(legacyClaims("same", cutoff), "token")).isTrue();
+        assertThat(store.isRevoked(claims("same-ms", cutoff + 1), "token")).isTrue();
+        assertThat(store.isRevoked(claims("next", cutoff + 1000), "token")).isFalse();
+    }
+
+    private static Claims claims(String id, long issuedAt) {
+        Claims claims = legacyClaims(id, issuedAt);
+        claims.put(TokenProvider.ISSUED_AT_MS, issuedAt);
+        return claims;
+    }
+
+    // iatMs 추가 전 발급된 토큰 => iat (초 단위)
+    private static Claims legacyClaims(String id, long issuedAt) {
+        Claims claims = Jwts.claims()
+                .setId(id)
+                .setIssuedAt(new Date(issuedAt / 1000 * 1000))
+                .setExpiration(new Date(issuedAt + Duration.ofMinutes(30).toMillis()));
+        claims.put("studentId", STUDENT_ID);
+        return claims;
+    }
+}
@@ -0,0 +1,126 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.TopicManagementResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import yiu.aisl.yiuservice.domain.DeviceToken;
+import yiu.aisl.yiuservice.domain.Interest;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.domain.state.EntityCode;
+import yiu.aisl.yiuservice.repository.DeviceTokenRepository;
+import yiu.aisl.yiuservice.repository.InterestRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 기기 등록, 다른 계정으로 옮겨간 기기, 로그아웃
+// 저장소는 mock, 토픽 구독/해제는 실제 TopicSubscriptionBatcher 를 flush 해서 FirebaseMessaging(mock) 호출로 확인
+class DeviceTokenServiceTest {
+
+    private static final String TOKEN = "device-1";
+    private static final String NOTICE = "notice";
+
+    private final DeviceTokenRepository deviceTokenRepository = mock(DeviceTokenRepository.class);
+    private final InterestRepository interestRepository = mock(InterestRepository.class);
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+    private final TopicSubscriptionBatcher batcher = new TopicSubscriptionBatcher(firebaseMessaging);
+    private final NoticeBroadcaster noticeBroadcaster = new NoticeBroadcaster(firebaseMessaging, mock(PushFanout.class), batcher);
+    private final DeviceTokenService deviceTokenService = new DeviceTokenService(deviceTokenRepository, interestRepository, batcher, noticeBroadcaster);
+
+    private final User me = User.builder().studentId(202033013L).nickname("me").build();
+    private final User other = User.builder().studentId(202033014L).nickname("other").build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(noticeBroadcaster, "topic", NOTICE);
+        ReflectionTestUtils.setField(deviceTokenService, "touchIntervalHours", 24L);
+        TopicManagementResponse response = mock(TopicManagementResponse.class);
+        when(firebaseMessaging.subscribeToTopic(anyList(), anyString())).thenReturn(response);
+        when(firebaseMessaging.unsubscribeFromTopic(anyList(), anyString())).thenReturn(response);
+        when(interestRepository.findByUser(me)).thenReturn(List.of(interest(me, 1L)));
+        when(interestRepository.findByUser(other)).thenReturn(List.of(interest(other, 2L)));
+    }
+
+    @Test
+    @DisplayName("새 기기 => 저장, 공지, 관심 토픽 구독")
+    void registersNewDevice() throws Exception {
+        when(deviceTokenRepository.findByToken(TOKEN)).thenReturn(List.of());
+
+        deviceTokenService.register(me, TOKEN);
+        batcher.flush();
+
+        verify(deviceTokenRepository).save(argThat(saved -> saved.getUser() == me && saved.getToken().equals(TOKEN)));
+        verify(firebaseMessaging).subscribeToTopic(List.of(TOKEN), NOTICE);
+        verify(firebaseMessaging).subscribeToTopic(List.of(TOKEN), Interest.deliveryTopic(1L));
+        verify(firebaseMessaging, never()).unsubscribeFromTopic(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 등록된 기기 => 구독 요청 없음, lastSeenAt 은 오래된 경우만 갱신")
+    void touchesKnownDevice() throws Exception {
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+        DeviceToken known = device(me, recent);
+        DeviceToken stale = device(me, LocalDateTime.now().minusDays(2));
+
+        when(deviceTokenRepository.findByToken(TOKEN)).thenReturn(List.of(known));
+        deviceTokenService.register(me, TOKEN);
+        when(deviceTokenRepository.findByToken(TOKEN)).thenReturn(List.of(stale));
+        deviceTokenService.register(me, TOKEN);
+        batcher.flush();
+
+        assertThat(known.getLastSeenAt()).isEqualTo(recent);
+        assertThat(stale.getLastSeenAt()).isAfter(recent);
+        verify(deviceTokenRepository, never()).save(any());
+        verifyNoInteractions(firebaseMessaging);
+    }
+
+    @Test
+    @DisplayName("다른 계정에서 쓰던 기기 => 이전 계정의 관심 토픽 해제, 토큰 삭제 후 새 계정으로 등록")
+    void transfersOwnership() throws Exception {
+        DeviceToken previous = device(other, LocalDateTime.now());
+        when(deviceTokenRepository.findByToken(TOKEN)).thenReturn(List.of(previous));
+
+        deviceTokenService.register(me, TOKEN);
+        batcher.flush();
+
+        verify(deviceTokenRepository).delete(previous);
+        verify(deviceTokenRepository).save(argThat(saved -> saved.getUser() == me));
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of(TOKEN), Interest.deliveryTopic(2L));
+        verify(firebaseMessaging).subscribeToTopic(List.of(TOKEN), Interest.deliveryTopic(1L));
+        // 공지는 계정과 관계없이 기기 단위 => 해제하지 않음
+        verify(firebaseMessaging, never()).unsubscribeFromTopic(anyList(), eq(NOTICE));
+    }
+
+    @Test
+    @DisplayName("로그아웃 => 내 기기만 토픽 해제, 삭제")
+    void removesOnlyOwnDevice() throws Exception {
+        DeviceToken mine = device(me, LocalDateTime.now());
+        when(deviceTokenRepository.findByToken(TOKEN)).thenReturn(List.of(mine));
+
+        deviceTokenService.remove(other.getStudentId(), TOKEN);
+        batcher.flush();
+        verify(deviceTokenRepository, never()).delete(any());
+        verifyNoInteractions(firebaseMessaging);
+
+        deviceTokenService.remove(me.getStudentId(), TOKEN);
+        batcher.flush();
+        verify(deviceTokenRepository).delete(mine);
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of(TOKEN), NOTICE);
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of(TOKEN), Interest.deliveryTopic(1L));
+    }
+
+    private static DeviceToken device(User user, LocalDateTime lastSeenAt) {
+        return DeviceToken.builder().user(user).token(TOKEN).lastSeenAt(lastSeenAt).build();
+    }
+
+    private static Interest interest(User user, Long foodCode) {
+        return Interest.builder().user(user).type(EntityCode.DELIVERY).foodCode(foodCode).topic(Interest.deliveryTopic(foodCode)).build();
+    }
+}
@@ -0,0 +1,48 @@
+package yiu.aisl.yiuservice.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Accept 헤더 => 목록 응답 형식 (JSON, CBOR, Smile)
+class ListStreamWriterTest {
+
+    // Accept, 기대 형식
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            // 헤더 없음 => JSON
+            "null | application/json",
+            "'' | application/json",
+            "application/cbor | application/cbor",
+            "application/x-jackson-smile | application/x-jackson-smile",
+            // q=0 => 거부한 형식, 고르지 않음
+            "application/json, application/cbor;q=0 | application/json",
+            "application/cbor;q=0 | application/json",
+            "application/cbor;q=0, application/x-jackson-smile | application/x-jackson-smile",
+            // q 값이 높은 형식 => 헤더 순서와 관계없이
+            "application/cbor;q=0.5, application/json | application/json",
+            "application/json;q=0.8, application/cbor | application/cbor",
+            // q 값이 같으면 헤더 순서
+            "application/json, application/cbor | application/json",
+            "application/cbor, application/json | application/cbor",
+            // 와일드카드 => JSON, 같은 q 값이면 구체적인 형식 먼저
+            "*/* | application/json",
+            "application/* | application/json",
+            "*/*, application/cbor | application/cbor",
+            "application/*;q=0.5, application/cbor;q=0.5 | application/cbor",
+            "*/*;q=0.1, application/x-jackson-smile | application/x-jackson-smile",
+            // 지원하지 않는 형식만 => JSON
+            "text/html | application/json",
+            "text/* | application/json",
+            // 잘못된 Accept => JSON
+            "cbor | application/json",
+            "application/ | application/json",
+            "application/cbor;q=abc | application/json",
+            "application/cbor;q=2 | application/json"
+    })
+    void negotiate(String accept, String expected) {
+        assertThat(ListStreamWriter.negotiate(accept)).isEqualTo(MediaType.parseMediaType(expected));
+    }
+}
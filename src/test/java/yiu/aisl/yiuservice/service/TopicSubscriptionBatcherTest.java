@@ -0,0 +1,92 @@
+package yiu.aisl.yiuservice.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.TopicManagementResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// FirebaseMessaging 은 mock => 토픽 관리 API 호출 횟수, 토큰 목록 확인
+class TopicSubscriptionBatcherTest {
+
+    private final FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+    private final TopicSubscriptionBatcher batcher = new TopicSubscriptionBatcher(firebaseMessaging);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TopicManagementResponse response = mock(TopicManagementResponse.class);
+        when(firebaseMessaging.subscribeToTopic(anyList(), anyString())).thenReturn(response);
+        when(firebaseMessaging.unsubscribeFromTopic(anyList(), anyString())).thenReturn(response);
+    }
+
+    @Test
+    @DisplayName("같은 토픽의 요청은 한 번의 호출로, (토픽, 토큰) 마다 마지막 요청만")
+    void coalesces() throws Exception {
+        batcher.subscribe("a", "notice");
+        batcher.subscribe("b", "notice");
+        batcher.subscribe("c", "delivery-food-1");
+        batcher.unsubscribe("c", "delivery-food-1");
+
+        batcher.flush();
+
+        ArgumentCaptor<List<String>> tokens = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging).subscribeToTopic(tokens.capture(), eq("notice"));
+        assertThat(tokens.getValue()).containsExactlyInAnyOrder("a", "b");
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("c"), "delivery-food-1");
+        verifyNoMoreInteractions(firebaseMessaging);
+
+        // 보낸 요청은 다시 보내지 않음
+        batcher.flush();
+        verifyNoMoreInteractions(firebaseMessaging);
+    }
+
+    @Test
+    @DisplayName("토픽별 1000개씩 나눠서 호출")
+    void splitsByApiLimit() throws Exception {
+        IntStream.range(0, 2500).forEach(i -> batcher.subscribe("t" + i, "notice"));
+
+        batcher.flush();
+
+        ArgumentCaptor<List<String>> tokens = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, times(3)).subscribeToTopic(tokens.capture(), eq("notice"));
+        assertThat(tokens.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("호출 실패 => 다음 주기에 다시, 그 사이 들어온 요청이 우선")
+    void retriesFailedCall() throws Exception {
+        when(firebaseMessaging.subscribeToTopic(anyList(), eq("notice")))
+                .thenThrow(mock(FirebaseMessagingException.class))
+                .thenReturn(mock(TopicManagementResponse.class));
+        batcher.subscribe("a", "notice");
+        batcher.subscribe("b", "notice");
+
+        batcher.flush();
+        // 실패 후 b 는 해제 요청이 새로 들어옴
+        batcher.unsubscribe("b", "notice");
+        batcher.flush();
+
+        verify(firebaseMessaging, times(2)).subscribeToTopic(anyList(), eq("notice"));
+        verify(firebaseMessaging).subscribeToTopic(List.of("a"), "notice");
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("b"), "notice");
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 요청을 보냄")
+    void flushesOnDestroy() throws Exception {
+        batcher.subscribe("a", "notice");
+
+        batcher.destroy();
+
+        verify(firebaseMessaging).subscribeToTopic(List.of("a"), "notice");
+    }
+}
@@ -0,0 +1,118 @@
+package yiu.aisl.yiuservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Redis, DB 는 mock => 꺼낸 id, 증가분이 실패 시 되돌려지는지
+// 배달 => view:dirty:1, view:total:1:<id>
+class ViewCounterTest {
+
+    private static final String DIRTY = "view:dirty:1";
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final ReactiveSetOperations<String, String> setOperations = mock(ReactiveSetOperations.class);
+    private final ReactiveValueOperations<String, String> valueOperations = mock(ReactiveValueOperations.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ViewCounter viewCounter = new ViewCounter(redisTemplate, jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(viewCounter, "flushBatchSize", 1000);
+        ReflectionTestUtils.setField(viewCounter, "redisTimeoutMillis", 1000L);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.pop(anyString(), anyLong())).thenReturn(Flux.empty());
+        when(setOperations.pop(eq(DIRTY), anyLong())).thenReturn(Flux.just("1", "2"));
+        when(setOperations.add(anyString(), any(String[].class))).thenReturn(Mono.just(2L));
+        when(valueOperations.increment(anyString(), anyLong())).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    @DisplayName("꺼낸 증가분, 순 조회자 수를 UPDATE batch 한 번으로 반영")
+    void flushesCounts() {
+        take("1", Flux.just("3:2"));
+        take("2", Flux.just("0:1"));
+
+        viewCounter.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE delivery"), rows.capture());
+        assertThat(rows.getValue()).containsExactlyInAnyOrder(new Object[]{3L, 2L, 1L}, new Object[]{0L, 1L, 2L});
+        verify(setOperations, never()).add(anyString(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("집계 조회 중 실패 => 꺼낸 id 를 dirty 에 되돌리고, 이미 꺼낸 증가분은 다시 INCRBY")
+    void restoresOnRedisFailure() {
+        take("1", Flux.just("3:2"));
+        take("2", Flux.error(new DataAccessResourceFailureException("timeout")));
+
+        viewCounter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(valueOperations).increment("view:total:1:1", 3L);
+        verify(setOperations).add(DIRTY, "1", "2");
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 => 증가분, id 를 Redis 에 되돌림 (증가분 0 은 INCRBY 생략)")
+    void restoresOnDbFailure() {
+        take("1", Flux.just("3:2"));
+        take("2", Flux.just("0:1"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        viewCounter.flush();
+
+        verify(valueOperations).increment("view:total:1:1", 3L);
+        verify(valueOperations, never()).increment(eq("view:total:1:2"), anyLong());
+        verify(setOperations).add(DIRTY, "1", "2");
+    }
+
+    // 원격 주소, X-Forwarded-For, 기대 주소
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            // 프록시 없이 직접 접속 => 헤더는 무시
+            "203.0.113.9 | 198.51.100.1 | 203.0.113.9",
+            "203.0.113.9 | null | 203.0.113.9",
+            // 프록시 뒤 => 프록시가 붙인 주소
+            "10.0.0.1 | 198.51.100.1 | 198.51.100.1",
+            // 클라이언트가 왼쪽에 넣은 위조 주소는 무시
+            "10.0.0.1 | 6.6.6.6, 198.51.100.1 | 198.51.100.1",
+            // 프록시 여러 단계 => 오른쪽부터 프록시가 아닌 첫 주소
+            "10.0.0.1 | 6.6.6.6, 198.51.100.1, 172.16.0.5 | 198.51.100.1",
+            // 모두 내부 주소 => 가장 왼쪽
+            "10.0.0.1 | 192.168.0.7, 10.0.0.2 | 192.168.0.7"
+    })
+    void clientAddress(String remote, String forwarded, String expected) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remote);
+        if (forwarded != null) request.addHeader("X-Forwarded-For", forwarded);
+
+        assertThat(ViewCounter.clientAddress(request)).isEqualTo(expected);
+    }
+
+    private void take(String id, Flux<String> result) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("view:total:1:" + id, "view:unique:1:" + id))))
+                .thenReturn(result);
+    }
+}
@@ -0,0 +1,20 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+import java.sql.Connection;
+
+// MyBatis 가 준비하는 SQL 수를 CountingStatementInspector 카운터에 더함 (Interceptor 빈은 MyBatis 가 자동 등록)
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+public class CountingMyBatisInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        CountingStatementInspector.increment();
+        return invocation.proceed();
+    }
+}
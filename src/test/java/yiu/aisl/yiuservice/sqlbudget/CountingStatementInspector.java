@@ -0,0 +1,31 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hibernate 가 실행하는 모든 SQL 수를 셈 (application-sqlbudget.yml 에서 등록)
+// 스트리밍 응답은 다른 스레드에서 조회하므로 전역 카운터 사용
+public class CountingStatementInspector implements StatementInspector {
+
+    private static final AtomicLong COUNT = new AtomicLong();
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static long count() {
+        return COUNT.get();
+    }
+
+    // Hibernate 를 거치지 않는 SQL (MyBatis 매퍼) 도 같은 카운터에 더함
+    static void increment() {
+        COUNT.incrementAndGet();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        increment();
+        return sql;
+    }
+}
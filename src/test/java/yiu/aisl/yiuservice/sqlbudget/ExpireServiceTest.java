@@ -0,0 +1,75 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.state.ApplyState;
+import yiu.aisl.yiuservice.domain.state.PostState;
+import yiu.aisl.yiuservice.service.ExpireService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마감 시간이 지난 글의 마감 처리 => 대기 신청글만 FINISHED, 수락/거절은 그대로
+// OVERDUE_ID => ME 의 진행 중인 글, 마감 시간 지남, 신청글 (대기, 수락, 거절) 순서 (SqlBudgetSeeder)
+@SpringBootTest
+@ActiveProfiles("sqlbudget")
+@Import(SqlBudgetTestConfig.class)
+@Transactional
+class ExpireServiceTest {
+
+    private static final long OVERDUE_ID = 7L;
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private ExpireService expireService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("배달 => 글은 FINISHED, 대기 신청글만 FINISHED")
+    void expireDelivery() {
+        assertThat(postState("delivery", "d_id")).isEqualTo(PostState.ACTIVE.ordinal());
+
+        expireService.expireDelivery();
+
+        assertThat(postState("delivery", "d_id")).isEqualTo(PostState.FINISHED.ordinal());
+        assertThat(commentStates("comment_delivery", "dc_id", "d_id"))
+                .containsExactly(ApplyState.FINISHED.ordinal(), ApplyState.ACCEPTED.ordinal(), ApplyState.REJECTED.ordinal());
+    }
+
+    @Test
+    @DisplayName("택시 => 글은 FINISHED, 대기 신청글만 FINISHED")
+    void expireTaxi() {
+        assertThat(postState("taxi", "t_id")).isEqualTo(PostState.ACTIVE.ordinal());
+
+        expireService.expireTaxi();
+
+        assertThat(postState("taxi", "t_id")).isEqualTo(PostState.FINISHED.ordinal());
+        assertThat(commentStates("comment_taxi", "tc_id", "t_id"))
+                .containsExactly(ApplyState.FINISHED.ordinal(), ApplyState.ACCEPTED.ordinal(), ApplyState.REJECTED.ordinal());
+    }
+
+    private Integer postState(String table, String idColumn) {
+        return jdbcTemplate.queryForObject("select state from " + table + " where " + idColumn + " = ?", Integer.class, OVERDUE_ID);
+    }
+
+    private List<Integer> commentStates(String table, String idColumn, String postColumn) {
+        return jdbcTemplate.queryForList("select state from " + table + " where " + postColumn + " = ? order by " + idColumn, Integer.class, OVERDUE_ID);
+    }
+}
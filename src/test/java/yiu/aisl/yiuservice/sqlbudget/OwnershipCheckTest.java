@@ -0,0 +1,141 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import yiu.aisl.yiuservice.domain.Delivery;
+import yiu.aisl.yiuservice.domain.Taxi;
+import yiu.aisl.yiuservice.dto.DeliveryRequest;
+import yiu.aisl.yiuservice.dto.TaxiRequest;
+import yiu.aisl.yiuservice.exception.CustomException;
+import yiu.aisl.yiuservice.exception.ErrorCode;
+import yiu.aisl.yiuservice.repository.DeliveryRepository;
+import yiu.aisl.yiuservice.repository.TaxiRepository;
+import yiu.aisl.yiuservice.service.DeliveryService;
+import yiu.aisl.yiuservice.service.TaxiService;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static yiu.aisl.yiuservice.sqlbudget.SqlBudgetSeeder.*;
+
+// 작성자 확인(getUser().getStudentId())이 실제 Hibernate 에서 신청글 컬렉션, 추가 유저를 불러오지 않는지
+// 테스트 트랜잭션 안에서 글을 먼저 불러옴 => 서비스도 같은 영속성 컨텍스트의 같은 인스턴스를 씀
+// 작성자(User)는 EAGER => 글과 함께 이미 로딩, 권한 확인에서 늘어나는 SQL 이 없는지로 확인
+@SpringBootTest
+@ActiveProfiles("sqlbudget")
+@Import(SqlBudgetTestConfig.class)
+@Transactional
+class OwnershipCheckTest {
+
+    // 요청한 유저 조회 + 글 조회
+    private static final int MAX_STATEMENTS = 2;
+    // 작성자가 아닌 유저
+    private static final long OTHER = user(0);
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private TaxiService taxiService;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private TaxiRepository taxiRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deliveryUpdateByOtherUser() {
+        Delivery delivery = deliveryRepository.findBydId(MY_ACTIVE_ID).orElseThrow();
+        DeliveryRequest.UpdateDTO request = new DeliveryRequest.UpdateDTO();
+        request.setDId(MY_ACTIVE_ID);
+        request.setTitle("수정");
+        request.setContents("수정");
+        request.setDue(LocalDateTime.now().plusDays(1));
+        request.setFood("피자");
+        request.setLocation("후문");
+
+        assertDeniedWithoutLoading(() -> deliveryService.update(OTHER, request), delivery.getComments());
+    }
+
+    @Test
+    void deliveryDeleteByOtherUser() {
+        Delivery delivery = deliveryRepository.findBydId(MY_ACTIVE_ID).orElseThrow();
+        DeliveryRequest.dIdDTO request = new DeliveryRequest.dIdDTO();
+        request.setDId(MY_ACTIVE_ID);
+
+        assertDeniedWithoutLoading(() -> deliveryService.delete(OTHER, request), delivery.getComments());
+    }
+
+    @Test
+    void deliveryAcceptByOtherUser() {
+        Delivery delivery = deliveryRepository.findBydId(MY_ACTIVE_ID).orElseThrow();
+        DeliveryRequest.dcIdDTO request = new DeliveryRequest.dcIdDTO();
+        request.setDcId(entityManager.createQuery("select c.dcId from Comment_Delivery c where c.delivery.dId = :id", Long.class)
+                .setParameter("id", MY_ACTIVE_ID).setMaxResults(1).getSingleResult());
+
+        // 신청글, 신청자(EAGER) 조회 추가
+        assertDeniedWithoutLoading(() -> deliveryService.accept(OTHER, request), delivery.getComments(), MAX_STATEMENTS + 2);
+    }
+
+    @Test
+    void taxiDeleteByOtherUser() {
+        Taxi taxi = taxiRepository.findBytId(MY_ACTIVE_ID).orElseThrow();
+        TaxiRequest.tIdDTO request = new TaxiRequest.tIdDTO();
+        request.setTId(MY_ACTIVE_ID);
+
+        assertDeniedWithoutLoading(() -> taxiService.delete(OTHER, request), taxi.getComments());
+    }
+
+    @Test
+    void taxiAcceptByOtherUser() {
+        Taxi taxi = taxiRepository.findBytId(MY_ACTIVE_ID).orElseThrow();
+        TaxiRequest.tcIdDTO request = new TaxiRequest.tcIdDTO();
+        request.setTcId(entityManager.createQuery("select c.tcId from Comment_Taxi c where c.taxi.tId = :id", Long.class)
+                .setParameter("id", MY_ACTIVE_ID).setMaxResults(1).getSingleResult());
+
+        assertDeniedWithoutLoading(() -> taxiService.accept(OTHER, request), taxi.getComments(), MAX_STATEMENTS + 2);
+    }
+
+    private void assertDeniedWithoutLoading(Executable call, Collection<?> comments) {
+        assertDeniedWithoutLoading(call, comments, MAX_STATEMENTS);
+    }
+
+    private void assertDeniedWithoutLoading(Executable call, Collection<?> comments, int maxStatements) {
+        assertThat(Hibernate.isInitialized(comments)).isFalse();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CountingStatementInspector.reset();
+
+        CustomException e = catchThrowableOfType(() -> call.execute(), CustomException.class);
+
+        assertThat(e).isNotNull();
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ACCESS_NO_AUTH);
+        assertThat(Hibernate.isInitialized(comments)).as("신청글 컬렉션 로딩").isFalse();
+        assertThat(statistics.getCollectionFetchCount()).as("컬렉션 조회 수").isZero();
+        assertThat(CountingStatementInspector.count()).as("SQL 수").isLessThanOrEqualTo(maxStatements);
+    }
+}
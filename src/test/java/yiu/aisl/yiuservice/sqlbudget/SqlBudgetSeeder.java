@@ -0,0 +1,191 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import yiu.aisl.yiuservice.domain.IdGenerators;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// SQL 예산 테스트용 데이터 적재 (JDBC batch => 적재 SQL 은 예산에 포함되지 않음)
+// ApplicationRunner 로 실행 => ApplicationReadyEvent(닉네임 필터 적재) 전에 끝남
+@RequiredArgsConstructor
+public class SqlBudgetSeeder implements ApplicationRunner {
+
+    public static final long ADMIN = 100000001L;
+    // 글, 신청글을 많이 가진 유저 => /user/** 의 N+1 을 드러냄
+    public static final long ME = 200000000L;
+    public static final int USERS = 2000;
+    public static final int POSTS = 5000;
+    public static final int COMMENTS_PER_POST = 3;
+    // ME 가 작성한 글 => 1 ~ MY_POSTS, ME 가 신청한 글 => MY_POSTS + 1 ~ MY_POSTS * 2
+    public static final int MY_POSTS = 40;
+    public static final int NOTICES = 300;
+    public static final int MY_PUSHES = 200;
+    public static final int REPORTS = 1000;
+
+    // 상세조회 대상 (다른 유저의 진행 중인 글, 신청글 3개)
+    public static final long DETAIL_ID = 1004L;
+    // 신청 대상 (다른 유저의 진행 중인 글, ME 의 신청 없음)
+    public static final long APPLY_ID = 1005L;
+    // 수정 대상 (ME 의 진행 중인 글)
+    public static final long MY_ACTIVE_ID = 5L;
+    // 삭제 대상 (ME 의 진행 중인 글, 신청글 없음)
+    public static final long MY_EMPTY_ID = 6L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDateTime now = LocalDateTime.now();
+
+        seedUsers(now);
+        seedPosts("delivery", now);
+        seedPosts("taxi", now);
+        seedComments("comment_delivery", now);
+        seedComments("comment_taxi", now);
+        seedNotices(now);
+        seedPushes(now);
+        seedReports(now);
+
+        // 직접 넣은 id 이후부터 IDENTITY, id_generator 가 이어지도록
+        restart("delivery", "d_id", POSTS + 1);
+        restart("taxi", "t_id", POSTS + 1);
+        nextId(IdGenerators.COMMENT_DELIVERY, POSTS * (COMMENTS_PER_POST + 1) + 1);
+        nextId(IdGenerators.COMMENT_TAXI, POSTS * (COMMENTS_PER_POST + 1) + 1);
+        restart("notice", "notice_id", NOTICES + 1);
+        nextId(IdGenerators.PUSH, MY_PUSHES + USERS + 1);
+        restart("report", "report_id", REPORTS + 1);
+        restart("user_report_stats", "stats_id", REPORTS + 1);
+    }
+
+    // ME 를 제외한 유저 학번
+    public static long user(int index) {
+        return ME + 1 + Math.floorMod(index, USERS);
+    }
+
+    // 글 작성자 => 1 ~ MY_POSTS 는 ME
+    public static long author(long id) {
+        return id <= MY_POSTS ? ME : user((int) id);
+    }
+
+    // 글 상태 => 10% 삭제, 30% 마감, 2% 마감 시간 지남(아직 ACTIVE), 나머지 진행 중
+    private static int state(long id) {
+        if (id % 10 == 0) return 0;
+        if (id % 10 <= 3) return 2;
+        return 1;
+    }
+
+    private static LocalDateTime due(long id, LocalDateTime now) {
+        if (id % 10 <= 3 || id % 50 == 7) return now.minusHours(1 + id % 48);
+        return now.plusHours(1 + id % 72);
+    }
+
+    private void seedUsers(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{ADMIN, "admin", "{noop}pw", 0, now, now});
+        rows.add(new Object[]{ME, "me", "{noop}pw", 0, now, now});
+        for (int i = 0; i < USERS; i++) {
+            rows.add(new Object[]{user(i), "u" + i, "{noop}pw", 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("insert into user (student_id, nickname, pwd, warn, created_at, updated_at) values (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void seedPosts(String table, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= POSTS; id++) {
+            LocalDateTime createdAt = now.minusMinutes(POSTS - id);
+            if (table.equals("delivery")) {
+                rows.add(new Object[]{id, author(id), "배달 " + id, "내용 ".repeat(100) + id, due(id, now), state(id),
+                        "음식 " + id, id % 20, "https://example.com/" + id, "위치 " + id, id % 10, createdAt, createdAt});
+            } else {
+                rows.add(new Object[]{id, author(id), "택시 " + id, "내용 ".repeat(100) + id, due(id, now), state(id),
+                        1, 4, "출발 " + id, id % 10, "도착 " + id, id % 15, createdAt, createdAt});
+            }
+        }
+        if (table.equals("delivery")) {
+            jdbcTemplate.batchUpdate("insert into delivery (d_id, student_id, title, contents, due, state, food, food_code, link, location, location_code, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        } else {
+            jdbcTemplate.batchUpdate("insert into taxi (t_id, student_id, title, contents, due, state, current, max, start, start_code, end, end_code, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    // 글마다 다른 유저의 신청글 (대기, 수락, 거절) + ME 의 신청글 (MY_EMPTY_ID 제외)
+    private void seedComments(String table, LocalDateTime now) {
+        String postColumn = table.equals("comment_delivery") ? "d_id" : "t_id";
+        String idColumn = table.equals("comment_delivery") ? "dc_id" : "tc_id";
+        boolean taxi = table.equals("comment_taxi");
+
+        List<Object[]> rows = new ArrayList<>();
+        long commentId = 1;
+        for (long id = 1; id <= POSTS; id++) {
+            if (id == MY_EMPTY_ID) continue;
+            LocalDateTime createdAt = now.minusMinutes(POSTS - id);
+            for (int k = 0; k < COMMENTS_PER_POST; k++) {
+                long applicant = user((int) id + 1 + k);
+                rows.add(row(taxi, commentId++, id, applicant, k + 1, createdAt));
+            }
+            // ME 의 신청 => 대기, 수락, 취소 순서로
+            if (id > MY_POSTS && id <= MY_POSTS * 2) {
+                rows.add(row(taxi, commentId++, id, ME, new int[]{1, 2, 0}[(int) (id % 3)], createdAt));
+            }
+        }
+        String columns = idColumn + ", " + postColumn + ", student_id, contents, details, state, created_at, updated_at" + (taxi ? ", number" : "");
+        String values = "?, ?, ?, ?, ?, ?, ?, ?" + (taxi ? ", ?" : "");
+        jdbcTemplate.batchUpdate("insert into " + table + " (" + columns + ") values (" + values + ")", rows);
+    }
+
+    private static Object[] row(boolean taxi, long commentId, long postId, long applicant, int state, LocalDateTime createdAt) {
+        return taxi
+                ? new Object[]{commentId, postId, applicant, "신청 " + commentId, "상세 " + commentId, state, createdAt, createdAt, 1}
+                : new Object[]{commentId, postId, applicant, "신청 " + commentId, "상세 " + commentId, state, createdAt, createdAt};
+    }
+
+    private void seedNotices(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= NOTICES; id++) {
+            LocalDateTime createdAt = now.minusHours(NOTICES - id);
+            rows.add(new Object[]{id, "공지 " + id, "공지 내용 ".repeat(50) + id, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("insert into notice (notice_id, title, contents, created_at, updated_at) values (?, ?, ?, ?, ?)", rows);
+    }
+
+    // ME 의 알림 + 다른 유저마다 알림 1개
+    private void seedPushes(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        long pushId = 1;
+        for (int i = 0; i < MY_PUSHES; i++) {
+            rows.add(new Object[]{pushId++, ME, 1 + i % 2, (long) i + 1, "알림 " + i, now.minusMinutes(i)});
+        }
+        for (int i = 0; i < USERS; i++) {
+            rows.add(new Object[]{pushId++, user(i), 1, (long) i + 1, "알림", now});
+        }
+        jdbcTemplate.batchUpdate("insert into push (push_id, student_id, type, id, contents, created_at) values (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 신고 + 신고 집계 (피신고자, 유형) 1건씩
+    private void seedReports(LocalDateTime now) {
+        List<Object[]> reports = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        for (int i = 0; i < REPORTS; i++) {
+            long id = i + 1;
+            reports.add(new Object[]{id, user(i), user(i + 1), "신고 " + id, i % 3, id, now, now});
+            stats.add(new Object[]{id, user(i + 1), i % 3, 1L, now});
+        }
+        jdbcTemplate.batchUpdate("insert into report (report_id, from_id, to_id, contents, type, id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?)", reports);
+        jdbcTemplate.batchUpdate("insert into user_report_stats (stats_id, student_id, type, report_count, updated_at) values (?, ?, ?, ?, ?)", stats);
+    }
+
+    private void restart(String table, String column, long next) {
+        jdbcTemplate.execute("alter table " + table + " alter column " + column + " restart with " + next);
+    }
+
+    private void nextId(String segment, long next) {
+        jdbcTemplate.update("update " + IdGenerators.TABLE + " set " + IdGenerators.VALUE_COLUMN + " = ? where " + IdGenerators.NAME_COLUMN + " = ?", next, segment);
+    }
+}
@@ -0,0 +1,167 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import yiu.aisl.yiuservice.domain.User;
+import yiu.aisl.yiuservice.event.PostEventBus;
+import yiu.aisl.yiuservice.security.TokenProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static yiu.aisl.yiuservice.sqlbudget.SqlBudgetSeeder.*;
+
+// 엔드포인트별 SQL 수, 엔티티 로딩 수 예산
+// 응답 시간은 실행 환경마다 달라서 확인하지 않음 => 성능 측정(benchmark 태그)에서
+// 대량 데이터(SqlBudgetSeeder) 위에서 실행 => N+1 이 생기면 SQL 수가 예산을 크게 넘어서 실패
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("sqlbudget")
+@Import(SqlBudgetTestConfig.class)
+class SqlBudgetTest {
+
+    // 로그인한 요청은 인증 필터의 유저 조회 1회 포함
+    // 로그인한 쓰기 요청은 그 유저를 primary 에서 다시 읽음 (UserRepositoryCustomImpl) => SQL, 엔티티 1개씩 추가
+    // 예산 = 현재 SQL 수 + 여유 1
+    // entities => 불러온 엔티티 수 (Hibernate 통계), 존재 확인(existsBy)으로 바꾼 경로는 확인용 엔티티를 불러오지 않음
+    static Stream<Budget> budgets() {
+        String due = LocalDate.now().plusDays(1) + " 10:00:00";
+        return Stream.of(
+                // 조회
+                read("GET", "/main", Map.of(), null, 12),
+                read("GET", "/delivery", Map.of(), null, 6),
+                read("GET", "/taxi", Map.of(), null, 6),
+                read("GET", "/notice", Map.of(), null, 2),
+                read("POST", "/delivery/detail", Map.of("dId", "" + DETAIL_ID), null, 2),
+                read("POST", "/taxi/detail", Map.of("tId", "" + DETAIL_ID), null, 2),
+                read("POST", "/notice/detail", Map.of("noticeId", "1"), null, 2),
+                read("GET", "/user/mypage", Map.of(), ME, 3),
+                read("GET", "/user/active", Map.of(), ME, 11),
+                read("GET", "/user/post", Map.of(), ME, 11),
+                read("GET", "/user/push", Map.of(), ME, 4),
+                read("GET", "/report", Map.of(), ADMIN, 3),
+                read("GET", "/report/stats", Map.of(), ADMIN, 3),
+                read("POST", "/nickcheck", Map.of("nickname", "budget"), null, 2).entities(0),
+                // 작성
+                write("POST", "/delivery/create", Map.of("title", "예산", "contents", "예산", "due", due, "food", "치킨", "location", "정문"), ME, 5),
+                write("POST", "/taxi/create", Map.of("title", "예산", "contents", "예산", "due", due, "max", "4", "start", "정문", "end", "기흥역"), ME, 5),
+                write("POST", "/delivery/update", Map.of("dId", "" + MY_ACTIVE_ID, "title", "수정", "contents", "수정", "due", due, "food", "피자", "location", "후문"), ME, 6),
+                // 신청 => 유저(+ 다시 읽기), 글, 글 작성자만 (유저의 기존 신청글은 불러오지 않음)
+                write("POST", "/delivery/apply", Map.of("dId", "" + APPLY_ID, "contents", "신청"), ME, 10).entities(4),
+                write("POST", "/taxi/apply", Map.of("tId", "" + APPLY_ID, "contents", "신청", "number", "1"), ME, 10).entities(4),
+                // 삭제 => 유저(+ 다시 읽기), 글만 (글의 신청글은 불러오지 않음)
+                write("POST", "/delivery/delete", Map.of("dId", "" + MY_EMPTY_ID), ME, 6).entities(3),
+                write("POST", "/taxi/delete", Map.of("tId", "" + MY_EMPTY_ID), ME, 6).entities(3),
+                write("POST", "/join", Map.of("studentId", "300000000", "nickname", "joined", "pwd", "pw"), null, 5).entities(0),
+                write("POST", "/user/changenick", Map.of("nickname", "changed"), ME, 5).entities(2),
+                write("POST", "/report/create", Map.of("toId", "" + user(0), "contents", "신고", "type", "0", "id", "999999"), ME, 5)
+        );
+    }
+
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private PostEventBus postEventBus;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void withinBudget(Budget budget) throws Exception {
+        // 조회는 한 번 먼저 호출 => 쿼리 계획, JIT 등 첫 호출 비용 제외
+        if (budget.repeatable()) {
+            perform(budget);
+        }
+
+        // 이전 요청의 이벤트 처리(알림 내역 저장 등)가 이번 측정에 섞이지 않도록
+        postEventBus.awaitIdle(Duration.ofSeconds(5));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CountingStatementInspector.reset();
+        MvcResult result = perform(budget);
+        long statements = CountingStatementInspector.count();
+        long entities = statistics.getEntityLoadCount();
+
+        assertThat(result.getResponse().getStatus())
+                .as("%s 응답 코드 (%s)", budget, result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        assertThat(statements)
+                .as("%s SQL 수", budget)
+                .isLessThanOrEqualTo(budget.maxStatements());
+        if (budget.maxEntities() >= 0) {
+            assertThat(entities)
+                    .as("%s 엔티티 로딩 수", budget)
+                    .isLessThanOrEqualTo(budget.maxEntities());
+        }
+    }
+
+    private MvcResult perform(Budget budget) throws Exception {
+        MockHttpServletRequestBuilder request = budget.method().equals("POST")
+                ? post(budget.path()).contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                : get(budget.path());
+        budget.params().forEach((name, value) -> request.param(name, value));
+        if (budget.studentId() != null) {
+            String token = tokenProvider.createToken(User.builder().studentId(budget.studentId()).nickname("budget").build());
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        MvcResult result = mockMvc.perform(request).andReturn();
+        // 스트리밍 응답 => 비동기 처리가 끝날 때까지 대기
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+
+    // 여러 번 호출해도 결과가 같은 요청
+    private static Budget read(String method, String path, Map<String, String> params, Long studentId, int maxStatements) {
+        return new Budget(method, path, params, studentId, true, maxStatements, -1);
+    }
+
+    private static Budget write(String method, String path, Map<String, String> params, Long studentId, int maxStatements) {
+        return new Budget(method, path, params, studentId, false, maxStatements, -1);
+    }
+
+    // maxEntities < 0 => 엔티티 수 확인 안 함
+    record Budget(String method, String path, Map<String, String> params, Long studentId, boolean repeatable, int maxStatements, int maxEntities) {
+
+        Budget entities(int maxEntities) {
+            return new Budget(method, path, params, studentId, repeatable, maxStatements, maxEntities);
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + path;
+        }
+    }
+}
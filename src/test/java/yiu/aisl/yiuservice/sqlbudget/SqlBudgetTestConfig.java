@@ -0,0 +1,20 @@
+package yiu.aisl.yiuservice.sqlbudget;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@TestConfiguration
+public class SqlBudgetTestConfig {
+
+    @Bean
+    public SqlBudgetSeeder sqlBudgetSeeder(JdbcTemplate jdbcTemplate) {
+        return new SqlBudgetSeeder(jdbcTemplate);
+    }
+
+    // MyBatis 매퍼(PostReadMapper)가 실행하는 SQL 도 예산에 포함
+    @Bean
+    public CountingMyBatisInterceptor countingMyBatisInterceptor() {
+        return new CountingMyBatisInterceptor();
+    }
+}
@@ -0,0 +1,64 @@
+package yiu.aisl.yiuservice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 1초 tick, 60칸 (한 바퀴 1분) 휠
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(1000, 60, START);
+
+    @Test
+    @DisplayName("예약 시각이 지난 advance 에서 예약 시각 순으로 만료된다")
+    void expiresInDeadlineOrder() {
+        wheel.schedule("b", START + 5_000);
+        wheel.schedule("a", START + 3_000);
+
+        assertThat(wheel.advance(START + 2_000)).isEmpty();
+        assertThat(wheel.advance(START + 10_000)).containsExactly("a", "b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 남은 예약은 같은 칸을 지나도 만료되지 않는다")
+    void keepsEntriesForLaterRounds() {
+        wheel.schedule("later", START + 125_000);
+
+        assertThat(wheel.advance(START + 65_000)).isEmpty();
+        assertThat(wheel.advance(START + 124_000)).isEmpty();
+        assertThat(wheel.advance(START + 125_000)).containsExactly("later");
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 예약하면 이전 예약은 취소된다")
+    void rescheduleReplacesPreviousEntry() {
+        wheel.schedule("post", START + 3_000);
+        wheel.schedule("post", START + 8_000);
+
+        assertThat(wheel.advance(START + 5_000)).isEmpty();
+        assertThat(wheel.advance(START + 8_000)).containsExactly("post");
+    }
+
+    @Test
+    @DisplayName("취소한 예약은 만료되지 않는다")
+    void cancelledEntryNeverExpires() {
+        wheel.schedule("post", START + 3_000);
+
+        assertThat(wheel.cancel("post")).isTrue();
+        assertThat(wheel.contains("post")).isFalse();
+        assertThat(wheel.advance(START + 5_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각, 여러 바퀴 멈췄다가의 advance 도 한 번에 만료시킨다")
+    void catchesUpAfterPause() {
+        wheel.schedule("past", START - 30_000);
+        wheel.schedule("far", START + 200_000);
+
+        assertThat(wheel.advance(START + 500_000)).containsExactly("past", "far");
+    }
+}